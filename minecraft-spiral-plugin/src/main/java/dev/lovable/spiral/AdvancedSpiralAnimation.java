@@ -4,293 +4,559 @@ package dev.lovable.spiral;
 import lombok.Getter;
 import org.bukkit.*;
 import org.bukkit.block.data.BlockData;
-import org.bukkit.entity.BlockDisplay;
-import org.bukkit.entity.Display;
-import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.util.Transformation;
-import org.bukkit.util.Vector;
 import org.jetbrains.annotations.NotNull;
-import org.joml.AxisAngle4f;
-import org.joml.Vector3f;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
 
-public final class AdvancedSpiralAnimation {
+public final class AdvancedSpiralAnimation implements SpiralTickable {
 
-    
-    private static final double GOLDEN_RATIO = 1.618033988749;
+    // Catch-up updates after a suspension or deferral never stretch interpolation beyond one second
+    private static final int MAX_CATCH_UP_TICKS = 20;
 
     @Getter
     private boolean running = false;
 
+    // Center chunk unloaded: no displays, not ticked, only preset/center/phase are kept
+    @Getter
+    private boolean hibernating = false;
+    private long hibernatedAtTick = 0L;
+
+    @Getter
     @NotNull private final Location center;
+    @Getter
     @NotNull private final SpiralPreset preset;
     
-    private final List<List<BlockDisplay>> spiralStreams = new ArrayList<>();
-    private final Map<BlockDisplay, Double> displayPhases = new HashMap<>();
-    private BukkitRunnable animationTask;
-    private BukkitRunnable soundTask;
+    private SpiralTrajectory trajectory;
+    private SpiralSegmentState state;
+    private SpiralRenderer renderer;
+    private SpiralFrame nextFrame;
+
+    // Segments are spawned by the SpiralSpawnScheduler in this order (bottom-up), a few per tick
+    private int[] spawnOrder;
+    private int spawnCursor = 0;
+    private BlockData[] streamBlocks;
+
+    // Reused every tick so the update pass does not allocate
+    private final Location scratchLocation;
+
     private double globalPhase = 0.0;
     private int colorCycle = 0;
+    private int soundCountdown = 0;
+    private boolean transformPending = false;
+
+    // Rigid mode: segments stay at the center and are spun by their transformation every rigidInterval ticks
+    private boolean rigid = false;
+    private int rigidInterval = 1;
+    private int rigidCountdown = 0;
+
+    // Keyframe mode (moving spirals): positions are sent every keyframeInterval ticks and interpolated by the client
+    private int keyframeInterval = 1;
+    private int keyframeCountdown = 0;
+
+    // Moves and rotations smaller than these (blocks, radians) since the last sent value are skipped
+    private double positionEpsilonSquared = 0.0;
+    private double rotationEpsilon = 0.0;
+
+    // Maintained by the SpiralVisibilityIndex
+    @Getter
+    private int viewerCount = 0;
+    @Getter
+    private double nearestViewerDistanceSquared = Double.MAX_VALUE;
+    @Getter
+    private long lastViewedTick = 0L;
+    @Getter
+    @NotNull private SpiralLod lod = SpiralLod.FULL;
+    private boolean culled = false;
+
+    // Tick time is recorded by the engine, the work counters below once per update
+    @Getter
+    @NotNull private final SpiralMetrics metrics;
+    private int updateCount = 0;
+    private int particleCount = 0;
+    private int suppressedCount = 0;
 
     public AdvancedSpiralAnimation(@NotNull final Location center, @NotNull final SpiralPreset preset) {
         this.center = center;
         this.preset = preset;
+        this.scratchLocation = new Location(center.getWorld(), 0.0, 0.0, 0.0);
+        this.metrics = new SpiralMetrics(SpiralPlugin.getInstance().getTickEngine().getMetrics());
     }
 
     public void start() {
         if (this.running) return;
         if (this.center.getWorld() == null) return;
 
-        final World world = this.center.getWorld();
-        final int configuredSegments = this.preset.getSegmentsPerStream();
-        final int segmentsPerStream = configuredSegments > 0
-            ? configuredSegments
-            : Math.max(12, this.preset.getParticleDensity() / 10);
-
-        // Create multiple streams based on spiral type
-        for (int stream = 0; stream < this.preset.getType().getStreamCount(); stream++) {
-            final List<BlockDisplay> streamDisplays = new ArrayList<>();
-            final double streamOffset = (Math.PI * 2.0 * stream) / this.preset.getType().getStreamCount();
-            
-            final Material streamMaterial = (stream % 2 == 0) ? 
-                this.preset.getPrimaryMaterial() : this.preset.getSecondaryMaterial();
-            final BlockData blockData = streamMaterial.createBlockData();
-
-            for (int i = 0; i < segmentsPerStream; i++) {
-                final double t = (double) i / (double) segmentsPerStream;
-                final Vector3 position = calculatePosition(t, streamOffset);
-                
-                final Location displayLocation = new Location(world, 
-                    this.center.getX() + position.x,
-                    this.center.getY() + position.y,
-                    this.center.getZ() + position.z);
-
-                final BlockDisplay display = world.spawn(displayLocation, BlockDisplay.class, spawned -> {
-                    try {
-                        spawned.setBlock(blockData);
-                        spawned.setInterpolationDuration(this.preset.getInterpolationTicks());
-                        
-                        if (this.preset.isGlowEffect()) {
-                            spawned.setBrightness(new Display.Brightness(15, 15));
-                        }
-                        
-                        // Add rotation and scaling effects
-                        final Transformation transform = new Transformation(
-                            new Vector3f(0, 0, 0),
-                            new AxisAngle4f(0, 0, 0, 1),
-                            new Vector3f(1.0f),
-                            new AxisAngle4f(0, 0, 0, 1)
-                        );
-                        spawned.setTransformation(transform);
-                        
-                    } catch (final Exception ex) {
-                        SpiralPlugin.getInstance().getLogger().warning("Failed to configure BlockDisplay: " + ex.getMessage());
-                    }
-                });
-                
-                streamDisplays.add(display);
-                this.displayPhases.put(display, t + streamOffset);
-            }
-            
-            this.spiralStreams.add(streamDisplays);
-        }
-
-        // Start animation task
-        this.animationTask = new BukkitRunnable() {
-            @Override
-            public void run() {
-                tick();
-            }
-        };
-        this.animationTask.runTaskTimer(SpiralPlugin.getInstance(), 1L, 1L);
+        this.running = true;
+        this.lastViewedTick = SpiralPlugin.getInstance().getTickEngine().getCurrentTick();
 
-        // Start ambient sound task if preset has sound
-        if (this.preset.getAmbientSound() != null) {
-            this.soundTask = new BukkitRunnable() {
-                @Override
-                public void run() {
-                    playAmbientSound();
-                }
-            };
-            this.soundTask.runTaskTimer(SpiralPlugin.getInstance(), 20L, 60L); // Every 3 seconds
+        // A spiral started in (or restored to) an unloaded chunk waits for the chunk instead of spawning
+        if (!this.isCenterChunkLoaded()) {
+            this.hibernating = true;
+            this.hibernatedAtTick = this.lastViewedTick;
+            SpiralPlugin.getInstance().getLogger().info("Started advanced spiral (hibernating): " + this.preset.getName());
+            return;
         }
 
-        this.running = true;
+        this.activate();
         SpiralPlugin.getInstance().getLogger().info("Started advanced spiral: " + this.preset.getName());
     }
 
     public void stop() {
         if (!this.running) return;
         this.running = false;
+        this.hibernating = false;
 
-        if (this.animationTask != null) {
-            this.animationTask.cancel();
-            this.animationTask = null;
+        this.deactivate();
+    }
+
+    // Releases displays and per-segment state while the center chunk is unloaded; only preset, center and phase remain
+    public void hibernate() {
+        if (!this.running || this.hibernating) return;
+
+        this.hibernating = true;
+        this.hibernatedAtTick = SpiralPlugin.getInstance().getTickEngine().getCurrentTick();
+        this.deactivate();
+    }
+
+    // Respawns after the center chunk loaded again, with the phase advanced as if the spiral had kept running
+    public void wake() {
+        if (!this.running || !this.hibernating) return;
+        if (!this.isCenterChunkLoaded()) return;
+
+        final long elapsedTicks = SpiralPlugin.getInstance().getTickEngine().getCurrentTick() - this.hibernatedAtTick;
+        this.globalPhase += this.preset.getSpeed() * elapsedTicks;
+        this.hibernating = false;
+
+        this.activate();
+    }
+
+    private boolean isCenterChunkLoaded() {
+        final World world = this.center.getWorld();
+        return world != null && world.isChunkLoaded(this.center.getBlockX() >> 4, this.center.getBlockZ() >> 4);
+    }
+
+    private void activate() {
+        final World world = this.center.getWorld();
+        if (world == null) return;
+
+        final int segmentsPerStream = this.preset.resolveSegmentsPerStream();
+
+        this.trajectory = SpiralTrajectory.of(this.preset.getType(), segmentsPerStream,
+            this.preset.getRadius(), this.preset.getHeight());
+        SpiralPlugin.getInstance().getTickEngine().getFramePipeline().getFrameCache().attach(this.trajectory);
+        this.state = new SpiralSegmentState(this.trajectory);
+        this.trajectory.sample(this.globalPhase, this.state.x, this.state.y, this.state.z);
+        this.nextFrame = new SpiralFrame(this.trajectory);
+
+        // Alternate materials between streams based on spiral type
+        final int streamCount = this.trajectory.getStreamCount();
+        this.streamBlocks = new BlockData[streamCount];
+        for (int stream = 0; stream < streamCount; stream++) {
+            final Material streamMaterial = (stream % 2 == 0) ?
+                this.preset.getPrimaryMaterial() : this.preset.getSecondaryMaterial();
+            this.streamBlocks[stream] = streamMaterial.createBlockData();
         }
 
-        if (this.soundTask != null) {
-            this.soundTask.cancel();
-            this.soundTask = null;
+        this.rigid = this.preset.getType().isRigid()
+            && SpiralPlugin.getInstance().getConfig().getBoolean("rigid-rotation", true);
+        if (this.rigid) {
+            this.rigidInterval = this.computeInterval("rigid-max-chord-error", "rigid-max-interval-ticks");
+            this.rigidCountdown = 0;
+        } else if (SpiralPlugin.getInstance().getConfig().getBoolean("keyframe-mode", true)) {
+            this.keyframeInterval = this.computeInterval("keyframe-max-chord-error", "keyframe-max-interval-ticks");
+            this.keyframeCountdown = 0;
+        } else {
+            this.keyframeInterval = 1;
         }
 
-        for (final List<BlockDisplay> stream : this.spiralStreams) {
-            for (final BlockDisplay display : stream) {
-                try {
-                    display.remove();
-                } catch (final Exception ignored) {}
+        final double positionEpsilon = SpiralPlugin.getInstance().getConfig().getDouble("update-epsilon.position", 0.01);
+        this.positionEpsilonSquared = positionEpsilon * positionEpsilon;
+        this.rotationEpsilon = SpiralPlugin.getInstance().getConfig().getDouble("update-epsilon.rotation", 0.01);
+
+        this.renderer = SpiralRenderer.create(this.preset, this.state.getSize());
+        this.spawnOrder = this.bottomUpOrder();
+        this.spawnCursor = 0;
+
+        // Ambient sound is driven from tick(); first play after one second
+        this.soundCountdown = 20;
+
+        SpiralPlugin.getInstance().getTickEngine().register(this);
+        SpiralPlugin.getInstance().getVisibilityIndex().track(this);
+        SpiralPlugin.getInstance().getSpawnScheduler().enqueue(this);
+    }
+
+    // Spawns up to budget of the segments not spawned yet at their current position; returns how many.
+    // Segments that exist are animated by tick() in the meantime, so the spiral grows in from the bottom.
+    int spawnPending(final int budget) {
+        final World world = this.center.getWorld();
+        if (world == null || this.renderer == null || this.spawnOrder == null) return 0;
+
+        final Location location = this.scratchLocation;
+        location.setWorld(world);
+        int count = 0;
+        while (count < budget && this.spawnCursor < this.spawnOrder.length) {
+            final int index = this.spawnOrder[this.spawnCursor++];
+            if (this.rigid) {
+                location.setX(this.center.getX());
+                location.setY(this.center.getY());
+                location.setZ(this.center.getZ());
+            } else {
+                location.setX(this.center.getX() + this.state.x[index]);
+                location.setY(this.center.getY() + this.state.y[index]);
+                location.setZ(this.center.getZ() + this.state.z[index]);
+            }
+            this.renderer.spawn(index, location, this.streamBlocks[this.state.streamIndex[index]]);
+            this.state.sentAngle[index] = 0.0f;
+            if (!this.rigid) {
+                this.state.sentX[index] = this.state.x[index];
+                this.state.sentY[index] = this.state.y[index];
+                this.state.sentZ[index] = this.state.z[index];
             }
+
+            if (this.rigid) {
+                this.renderer.transform(index, this.state.x[index], this.state.y[index], this.state.z[index],
+                    (float) (this.state.basePhase[index] + this.globalPhase), 0);
+            }
+            count++;
         }
+        return count;
+    }
 
-        this.spiralStreams.clear();
-        this.displayPhases.clear();
+    int getPendingSpawnCount() {
+        return this.spawnOrder != null ? this.spawnOrder.length - this.spawnCursor : 0;
+    }
+
+    private void deactivate() {
+        SpiralPlugin.getInstance().getTickEngine().unregister(this);
+        SpiralPlugin.getInstance().getVisibilityIndex().untrack(this);
+        SpiralPlugin.getInstance().getSpawnScheduler().cancel(this);
+
+        // Removal is spread over ticks as well; the renderer is no longer touched by this animation
+        if (this.renderer != null) {
+            SpiralPlugin.getInstance().getSpawnScheduler().retire(this.renderer, this.state.getSize());
+        }
+        this.renderer = null;
+        this.nextFrame = null;
+        this.state = null;
+        this.trajectory = null;
+        this.spawnOrder = null;
+        this.streamBlocks = null;
     }
 
-    private void tick() {
+    // Segment indices sorted by their height at the current phase
+    private int[] bottomUpOrder() {
+        final Integer[] boxed = new Integer[this.state.getSize()];
+        for (int index = 0; index < boxed.length; index++) {
+            boxed[index] = index;
+        }
+        Arrays.sort(boxed, Comparator.comparingDouble(index -> this.state.y[index]));
+
+        final int[] order = new int[boxed.length];
+        for (int index = 0; index < order.length; index++) {
+            order[index] = boxed[index];
+        }
+        return order;
+    }
+
+    // Displays currently spawned for this spiral (0 while hibernating)
+    public int getSegmentCount() {
+        return this.state != null ? this.spawnCursor : 0;
+    }
+
+    @Override
+    public int getTickDivisor() {
+        return Math.max(1, this.preset.getTickDivisor()) * this.lod.getTickDivisor();
+    }
+
+    @Override
+    public boolean isSuspended() {
+        return this.culled;
+    }
+
+    public void updateVisibility(final int viewers, final double nearestDistanceSquared, final boolean suspend,
+                                 @NotNull final SpiralLod lod, final long currentTick) {
+        this.viewerCount = viewers;
+        this.nearestViewerDistanceSquared = nearestDistanceSquared;
+        if (suspend && !this.culled && this.renderer != null) {
+            this.renderer.suspend();
+        }
+        this.culled = suspend;
+        this.lod = lod;
+        if (viewers > 0) {
+            this.lastViewedTick = currentTick;
+        }
+    }
+
+    // Squared distance from a location to this spiral's bounding box (infinite in another world)
+    public double distanceSquaredTo(@NotNull final Location location) {
+        if (location.getWorld() != this.center.getWorld()) return Double.MAX_VALUE;
+
+        final double radius = this.preset.getRadius();
+        final double dx = Math.max(0.0, Math.abs(location.getX() - this.center.getX()) - radius);
+        final double dz = Math.max(0.0, Math.abs(location.getZ() - this.center.getZ()) - radius);
+        final double minY = this.center.getY() - 2.0;
+        final double maxY = this.center.getY() + this.preset.getHeight() + 2.0; // room for WAVE/GALAXY bobbing
+        final double dy = location.getY() < minY ? minY - location.getY() : Math.max(0.0, location.getY() - maxY);
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    @Override
+    public void tick(final int elapsedTicks, final boolean cosmetic) {
         if (this.center.getWorld() == null) {
             this.stop();
             return;
         }
 
         final World world = this.center.getWorld();
-        this.globalPhase += this.preset.getSpeed();
-        this.colorCycle++;
-
-        for (int streamIndex = 0; streamIndex < this.spiralStreams.size(); streamIndex++) {
-            final List<BlockDisplay> stream = this.spiralStreams.get(streamIndex);
-            final double streamOffset = (Math.PI * 2.0 * streamIndex) / this.preset.getType().getStreamCount();
-
-            for (int i = 0; i < stream.size(); i++) {
-                final BlockDisplay display = stream.get(i);
-                final double t = (double) i / (double) stream.size();
-                final double phase = this.displayPhases.get(display) + this.globalPhase;
-                
-                final Vector3 position = calculateAdvancedPosition(t, phase, streamOffset);
-                final Location newLocation = new Location(world,
-                    this.center.getX() + position.x,
-                    this.center.getY() + position.y,
-                    this.center.getZ() + position.z);
-
-                try {
-                    display.setInterpolationDuration(this.preset.getInterpolationTicks());
-                    display.teleport(newLocation);
-
-                    // Dynamic scaling and rotation
-                    if (this.colorCycle % 10 == 0) { // Update every 10 ticks for performance
-                        final Transformation transform = new Transformation(
-                            new Vector3f(0, 0, 0),
-                            new AxisAngle4f((float)phase, 0, 1, 0),
-                            new Vector3f(1.0f, 1.0f, 1.0f),
-                            new AxisAngle4f(0, 0, 0, 1)
-                        );
-                        display.setTransformation(transform);
-                    }
-
-                } catch (final Exception ex) {
-                    // Skip this display if teleport fails
+        final Location location = this.scratchLocation;
+        location.setWorld(world);
+        final int previousCycle = this.colorCycle;
+        this.globalPhase += this.preset.getSpeed() * elapsedTicks;
+        this.colorCycle += elapsedTicks;
+
+        // Stretch interpolation so displays updated at a reduced rate still glide between updates
+        final int cadence = Math.min(elapsedTicks, MAX_CATCH_UP_TICKS);
+        final int interpolationTicks = Math.max(this.preset.getInterpolationTicks(), cadence);
+        // Transformation updates skipped while over budget are carried over to the next cosmetic tick
+        this.transformPending |= crossedInterval(previousCycle, this.colorCycle, 10); // Update every 10 ticks for performance
+        final boolean transformDue = cosmetic && this.transformPending;
+        this.updateCount = 0;
+        this.particleCount = 0;
+        this.suppressedCount = 0;
+        final boolean particlesDue = cosmetic && this.lod.isParticles() && crossedInterval(previousCycle, this.colorCycle,
+            20 / Math.max(1, this.preset.getParticleDensity() / 50));
+
+        if (this.rigid) {
+            this.updateRigid(world, cadence, particlesDue);
+        } else {
+            this.updateSegments(world, location, cadence, interpolationTicks, transformDue, particlesDue);
+        }
+
+        if (transformDue) {
+            this.transformPending = false;
+        }
+        this.metrics.recordWork(this.updateCount, this.particleCount, this.viewerCount);
+        this.metrics.recordSuppressed(this.suppressedCount);
+
+        if (this.preset.getAmbientSound() != null) {
+            this.soundCountdown -= elapsedTicks;
+            if (this.soundCountdown <= 0 && cosmetic) {
+                playAmbientSound();
+                this.soundCountdown = Math.max(1, SpiralPlugin.getInstance().getConfig().getInt("sound-interval-ticks", 60));
+            }
+        }
+    }
+
+    private void updateSegments(@NotNull final World world, @NotNull final Location location, final int cadence,
+                                final int interpolationTicks, final boolean transformDue, final boolean particlesDue) {
+        final SpiralSegmentState state = this.state;
+        final SpiralRenderer renderer = this.renderer;
+        final SpiralFramePipeline pipeline = SpiralPlugin.getInstance().getTickEngine().getFramePipeline();
+        renderer.beginFrame(this.center);
+
+        boolean keyframe = true;
+        int moveInterpolation = interpolationTicks;
+        double framePhase = this.globalPhase;
+        double nextPhase = this.globalPhase + this.preset.getSpeed() * this.getTickDivisor();
+        if (this.keyframeInterval > 1) {
+            this.keyframeCountdown -= cadence;
+            keyframe = this.keyframeCountdown <= 0;
+            if (keyframe) {
+                // Send the pose the spiral reaches at the next keyframe so the client glides towards it over the window
+                final int window = ((this.keyframeInterval + cadence - 1) / cadence) * cadence;
+                framePhase = this.globalPhase + this.preset.getSpeed() * window;
+                nextPhase = framePhase + this.preset.getSpeed() * window;
+                moveInterpolation = Math.max(interpolationTicks, window);
+                this.keyframeCountdown = window;
+            }
+        }
+        // Between keyframes only rotations and particles remain
+        if (!keyframe && !transformDue && !particlesDue) return;
+
+        // One rotation per update, then table lookups for every segment; usually precomputed off the main thread
+        if (keyframe) {
+            pipeline.acquire(this.nextFrame, this.trajectory, framePhase, state);
+        }
+
+        final int stride = this.lod.getSegmentStride();
+        final SpiralParticleBatcher batcher = SpiralPlugin.getInstance().getTickEngine().getParticleBatcher();
+        final int source = particlesDue ? batcher.beginSource() : -1;
+        // x/y/z hold the keyframe target, so particles are emitted from the pose the displays are gliding through
+        final float[] particleX;
+        final float[] particleY;
+        final float[] particleZ;
+        if (particlesDue && this.keyframeInterval > 1) {
+            this.trajectory.sample(this.globalPhase, state.poseX, state.poseY, state.poseZ);
+            particleX = state.poseX;
+            particleY = state.poseY;
+            particleZ = state.poseZ;
+        } else {
+            particleX = state.x;
+            particleY = state.y;
+            particleZ = state.z;
+        }
+
+        for (int index = 0; index < state.getSize(); index++) {
+            if (!renderer.isSpawned(index)) continue;
+            if (!this.applyLodVisibility(index, stride)) continue;
+
+            final double phase = state.basePhase[index] + this.globalPhase;
+            final double x = this.center.getX() + state.x[index];
+            final double y = this.center.getY() + state.y[index];
+            final double z = this.center.getZ() + state.z[index];
+
+            if (keyframe) {
+                // Compared with the last sent offset, so skipped moves never add up to more than the epsilon
+                final float dx = state.x[index] - state.sentX[index];
+                final float dy = state.y[index] - state.sentY[index];
+                final float dz = state.z[index] - state.sentZ[index];
+                if (dx * dx + dy * dy + dz * dz >= this.positionEpsilonSquared || Float.isNaN(dx + dy + dz)) {
+                    location.setX(x);
+                    location.setY(y);
+                    location.setZ(z);
+                    renderer.move(index, location, moveInterpolation);
+                    state.sentX[index] = state.x[index];
+                    state.sentY[index] = state.y[index];
+                    state.sentZ[index] = state.z[index];
+                    this.updateCount++;
+                } else {
+                    this.suppressedCount++;
+                }
+                this.reveal(index);
+            } else if (!state.visible[index]) {
+                // Shown again at the next keyframe, once it has been moved to a current pose
+                continue;
+            }
+
+            // Dynamic scaling and rotation
+            if (transformDue) {
+                final float angle = (float) phase;
+                if (!(Math.abs(angle - state.sentAngle[index]) < this.rotationEpsilon)) {
+                    renderer.rotate(index, angle);
+                    state.sentAngle[index] = angle;
+                    this.updateCount++;
+                } else {
+                    this.suppressedCount++;
                 }
+            }
 
-                // Advanced particle effects
-                spawnAdvancedParticles(world, newLocation, phase, streamIndex);
+            // Advanced particle effects
+            if (particlesDue) {
+                spawnAdvancedParticles(batcher, source, world,
+                    this.center.getX() + particleX[index],
+                    this.center.getY() + particleY[index],
+                    this.center.getZ() + particleZ[index],
+                    phase, state.streamIndex[index]);
             }
         }
+
+        // Predict the next update from the current cadence; a wrong guess only costs a synchronous sample
+        if (keyframe) {
+            pipeline.schedule(this.nextFrame, nextPhase);
+        }
     }
 
-    private Vector3 calculatePosition(final double t, final double streamOffset) {
-        final double angle = t * Math.PI * 6.0 + streamOffset; // 3 full turns
-        final double x = this.preset.getRadius() * Math.cos(angle);
-        final double z = this.preset.getRadius() * Math.sin(angle);
-        final double y = t * this.preset.getHeight();
-        return new Vector3(x, y, z);
+    private void updateRigid(@NotNull final World world, final int cadence, final boolean particlesDue) {
+        final SpiralSegmentState state = this.state;
+        final SpiralRenderer renderer = this.renderer;
+        renderer.beginFrame(this.center);
+
+        this.rigidCountdown -= cadence;
+        if (this.rigidCountdown <= 0) {
+            // Send the pose the shape reaches at the next update so the client spins towards it over the whole window
+            final int window = ((this.rigidInterval + cadence - 1) / cadence) * cadence;
+            final double targetPhase = this.globalPhase + this.preset.getSpeed() * window;
+            final SpiralFramePipeline pipeline = SpiralPlugin.getInstance().getTickEngine().getFramePipeline();
+            pipeline.acquire(this.nextFrame, this.trajectory, targetPhase, state);
+            final int stride = this.lod.getSegmentStride();
+
+            for (int index = 0; index < state.getSize(); index++) {
+                if (!renderer.isSpawned(index)) continue;
+                if (!this.applyLodVisibility(index, stride)) continue;
+
+                renderer.transform(index, state.x[index], state.y[index], state.z[index],
+                    (float) (state.basePhase[index] + targetPhase), window);
+                this.reveal(index);
+                this.updateCount++;
+            }
+            this.rigidCountdown = window;
+            pipeline.schedule(this.nextFrame, targetPhase + this.preset.getSpeed() * window);
+        }
+
+        if (!particlesDue) return;
+
+        // x/y/z hold the target of the current window; particles follow the pose at the current phase
+        this.trajectory.sample(this.globalPhase, state.poseX, state.poseY, state.poseZ);
+        final SpiralParticleBatcher batcher = SpiralPlugin.getInstance().getTickEngine().getParticleBatcher();
+        final int source = batcher.beginSource();
+        for (int index = 0; index < state.getSize(); index++) {
+            if (!renderer.isSpawned(index) || !state.visible[index]) continue;
+            spawnAdvancedParticles(batcher, source, world,
+                this.center.getX() + state.poseX[index],
+                this.center.getY() + state.poseY[index],
+                this.center.getZ() + state.poseZ[index],
+                state.basePhase[index] + this.globalPhase, state.streamIndex[index]);
+        }
     }
 
-    private Vector3 calculateAdvancedPosition(final double t, final double phase, final double streamOffset) {
-        switch (this.preset.getType()) {
-            case DOUBLE_HELIX:
-                final double helixAngle = t * Math.PI * 6.0 + phase + streamOffset;
-                final double helixRadius = this.preset.getRadius() * (0.8 + 0.2 * Math.sin(phase * 3));
-                return new Vector3(
-                    helixRadius * Math.cos(helixAngle),
-                    t * this.preset.getHeight(),
-                    helixRadius * Math.sin(helixAngle)
-                );
-
-            case WAVE:
-                final double waveAngle = t * Math.PI * 4.0 + phase;
-                final double waveRadius = this.preset.getRadius() * Math.sin(t * Math.PI * 2 + phase);
-                return new Vector3(
-                    waveRadius * Math.cos(waveAngle),
-                    t * this.preset.getHeight() + Math.sin(phase * 2) * 2,
-                    waveRadius * Math.sin(waveAngle)
-                );
-
-            case TORNADO:
-                final double tornadoAngle = t * Math.PI * 8.0 + phase;
-                final double tornadoRadius = this.preset.getRadius() * (1 - t * 0.7); // Narrows towards top
-                final double tornadoY = t * this.preset.getHeight() + Math.sin(phase * 4) * 0.5;
-                return new Vector3(
-                    tornadoRadius * Math.cos(tornadoAngle),
-                    tornadoY,
-                    tornadoRadius * Math.sin(tornadoAngle)
-                );
-
-            case GALAXY:
-                final double galaxyAngle = t * Math.PI * 4.0 + phase * 0.5;
-                final double galaxyRadius = this.preset.getRadius() * Math.pow(t, 0.7); // Logarithmic spiral
-                final double armOffset = streamOffset * GOLDEN_RATIO;
-                return new Vector3(
-                    galaxyRadius * Math.cos(galaxyAngle + armOffset),
-                    (t * this.preset.getHeight()) + Math.sin(phase) * 1.5,
-                    galaxyRadius * Math.sin(galaxyAngle + armOffset)
-                );
-
-            case DNA:
-                final double dnaAngle = t * Math.PI * 4.0 + phase + streamOffset;
-                final double dnaRadius = this.preset.getRadius() * 0.8;
-                final double dnaY = t * this.preset.getHeight() + Math.cos(dnaAngle * 2) * 0.3;
-                return new Vector3(
-                    dnaRadius * Math.cos(dnaAngle),
-                    dnaY,
-                    dnaRadius * Math.sin(dnaAngle)
-                );
-
-            default: // HELIX
-                final double defaultAngle = t * Math.PI * 6.0 + phase;
-                return new Vector3(
-                    this.preset.getRadius() * Math.cos(defaultAngle),
-                    t * this.preset.getHeight(),
-                    this.preset.getRadius() * Math.sin(defaultAngle)
-                );
+    // Hides segment rows dropped by the current LOD; returns whether the segment should be updated
+    private boolean applyLodVisibility(final int index, final int stride) {
+        if (this.state.segmentIndex[index] % stride == 0) return true;
+
+        if (this.state.visible[index]) {
+            this.renderer.setVisible(index, false);
+            this.state.visible[index] = false;
         }
+        return false;
+    }
+
+    // Shows a segment again after it was moved to its current position, so it never pops in at a stale one
+    private void reveal(final int index) {
+        if (this.state.visible[index]) return;
+
+        this.renderer.setVisible(index, true);
+        this.state.visible[index] = true;
     }
 
-    private void spawnAdvancedParticles(final World world, final Location location, final double phase, final int streamIndex) {
-        if (this.colorCycle % (20 / Math.max(1, this.preset.getParticleDensity() / 50)) != 0) return;
+    // Update interval for the configured chord error, cached on the shared trajectory
+    private int computeInterval(@NotNull final String toleranceKey, @NotNull final String maxIntervalKey) {
+        final double tolerance = SpiralPlugin.getInstance().getConfig().getDouble(toleranceKey, 0.1);
+        final int maxInterval = Math.max(1, SpiralPlugin.getInstance().getConfig().getInt(maxIntervalKey, 10));
+        return this.trajectory.updateInterval(this.preset.getSpeed(), tolerance, maxInterval);
+    }
+
+    // True when the counter passed a multiple of interval while advancing from previous to current
+    private static boolean crossedInterval(final int previous, final int current, final int interval) {
+        final int safeInterval = Math.max(1, interval);
+        return previous / safeInterval != current / safeInterval;
+    }
 
+    private void spawnAdvancedParticles(@NotNull final SpiralParticleBatcher batcher, final int source,
+                                        final World world, final double x, final double y, final double z,
+                                        final double phase, final int streamIndex) {
         final Particle particle = this.preset.getParticleType();
         final int count = Math.min(3, Math.max(1, this.preset.getParticleDensity() / 100));
-        
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        this.particleCount += count;
+
         // Create particle trails with different colors based on stream
         for (int i = 0; i < count; i++) {
-            final double offsetX = (Math.random() - 0.5) * 0.5;
-            final double offsetY = (Math.random() - 0.5) * 0.5;
-            final double offsetZ = (Math.random() - 0.5) * 0.5;
-            
-            final Location particleLocation = location.clone().add(offsetX, offsetY, offsetZ);
-            
+            final double particleX = x + (random.nextDouble() - 0.5) * 0.5;
+            final double particleY = y + (random.nextDouble() - 0.5) * 0.5;
+            final double particleZ = z + (random.nextDouble() - 0.5) * 0.5;
+
             if (this.preset.isColorTransition()) {
                 // Create color-changing particle effects
                 final double colorPhase = phase + streamIndex * Math.PI / 3;
-                world.spawnParticle(particle, particleLocation, 1, 
-                    Math.sin(colorPhase) * 0.1, 
-                    Math.cos(colorPhase) * 0.1, 
-                    Math.sin(colorPhase + Math.PI/2) * 0.1, 
+                batcher.emit(source, world, particle, particleX, particleY, particleZ, 1,
+                    Math.sin(colorPhase) * 0.1,
+                    Math.cos(colorPhase) * 0.1,
+                    Math.sin(colorPhase + Math.PI/2) * 0.1,
                     0.1);
             } else {
-                world.spawnParticle(particle, particleLocation, 1, 0.05, 0.05, 0.05, 0.02);
+                batcher.emit(source, world, particle, particleX, particleY, particleZ, 1, 0.05, 0.05, 0.05, 0.02);
             }
         }
     }
@@ -301,15 +567,4 @@ public final class AdvancedSpiralAnimation {
         this.center.getWorld().playSound(this.center, this.preset.getAmbientSound(), 
             SoundCategory.AMBIENT, 0.3f, 1.0f + (float)(Math.random() * 0.2 - 0.1));
     }
-
-    // Helper class for 3D vectors
-    private static class Vector3 {
-        final double x, y, z;
-        
-        Vector3(final double x, final double y, final double z) {
-            this.x = x;
-            this.y = y;
-            this.z = z;
-        }
-    }
 }
@@ -1,6 +1,7 @@
 
 package dev.lovable.spiral;
 
+import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.Particle;
 import org.bukkit.command.Command;
@@ -15,6 +16,7 @@ import org.jetbrains.annotations.Nullable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 
 public final class AdvancedSpiralCommand implements CommandExecutor, TabCompleter {
@@ -48,6 +50,10 @@ public final class AdvancedSpiralCommand implements CommandExecutor, TabComplete
                 return handleInfo(sender);
             case "presets":
                 return handlePresets(sender);
+            case "stats":
+                return handleStats(sender, args);
+            case "near":
+                return handleNear(sender, args);
             default:
                 sendHelp(sender, label);
                 return true;
@@ -111,10 +117,10 @@ public final class AdvancedSpiralCommand implements CommandExecutor, TabComplete
                 .segmentsPerStream(segments)
                 .build();
 
-            final String spiralId = SpiralPlugin.getInstance().getAdvancedSpiralManager()
-                .startGlobalSpiral(player.getLocation(), customPreset);
+            final SpiralAdmissionController.Result result = requestSpiral(player, customPreset);
+            if (result.status() != SpiralAdmissionController.Status.STARTED) return true;
 
-            sender.sendMessage("§a✨ Started spiral '" + spiralId + "'");
+            sender.sendMessage("§a✨ Started spiral '" + result.spiralId() + "'");
             sender.sendMessage("§7Type: §f" + type.name() + " §8| §7Radius: §f" + radius + 
                              " §8| §7Height: §f" + height + " §8| §7Speed: §f" + speed);
             
@@ -141,15 +147,35 @@ public final class AdvancedSpiralCommand implements CommandExecutor, TabComplete
         final String presetName = args[1].toLowerCase();
         final SpiralPreset preset = SpiralPreset.getPreset(presetName);
         
-        final String spiralId = SpiralPlugin.getInstance().getAdvancedSpiralManager()
-            .startGlobalSpiral(player.getLocation(), preset);
+        final SpiralAdmissionController.Result result = requestSpiral(player, preset);
+        if (result.status() != SpiralAdmissionController.Status.STARTED) return true;
 
-        sender.sendMessage("§a✨ Started preset spiral '" + preset.getName() + "' (ID: " + spiralId + ")");
+        sender.sendMessage("§a✨ Started preset spiral '" + preset.getName() + "' (ID: " + result.spiralId() + ")");
         sender.sendMessage("§7" + preset.getType().getDescription());
         
         return true;
     }
 
+    // Goes through admission control and tells the player when the spiral was queued or rejected
+    @NotNull
+    private SpiralAdmissionController.Result requestSpiral(@NotNull final Player player, @NotNull final SpiralPreset preset) {
+        final SpiralAdmissionController.Result result = SpiralPlugin.getInstance().getAdvancedSpiralManager()
+            .requestGlobalSpiral(player.getLocation(), preset, player.getUniqueId(),
+                player.hasPermission("spiral.priority") ? 1 : 0);
+
+        switch (result.status()) {
+            case QUEUED:
+                player.sendMessage("§e⏳ " + result.reason() + ". Your spiral is queued and starts when there is room.");
+                break;
+            case REJECTED:
+                player.sendMessage("§c" + result.reason() + ".");
+                break;
+            default:
+                break;
+        }
+        return result;
+    }
+
     private boolean handleStop(@NotNull final CommandSender sender, @NotNull final String[] args) {
         if (args.length < 2) {
             // Stop all spirals
@@ -180,12 +206,60 @@ public final class AdvancedSpiralCommand implements CommandExecutor, TabComplete
 
         sender.sendMessage("§a✨ Active Spirals (" + activeSpirals.size() + "):");
         for (final String spiralId : activeSpirals) {
-            sender.sendMessage("§f• §7" + spiralId);
+            final AdvancedSpiralAnimation spiral = SpiralPlugin.getInstance().getAdvancedSpiralManager().getSpiral(spiralId);
+            if (spiral == null) {
+                sender.sendMessage("§f• §7" + spiralId);
+                continue;
+            }
+
+            final String detail = spiral.isHibernating() ? "HIBERNATING"
+                : spiral.isSuspended() ? "SUSPENDED" : spiral.getLod().name();
+            sender.sendMessage("§f• §7" + spiralId + " §8[§f" + detail + "§8, §7viewers: §f" + spiral.getViewerCount() + "§8]");
         }
         
         return true;
     }
 
+    private boolean handleNear(@NotNull final CommandSender sender, @NotNull final String[] args) {
+        if (!(sender instanceof final Player player)) {
+            sender.sendMessage("§cOnly players can look for nearby spirals.");
+            return true;
+        }
+
+        double radius = 32.0;
+        if (args.length >= 2) {
+            try {
+                radius = Math.max(1.0, Math.min(256.0, Double.parseDouble(args[1])));
+            } catch (final NumberFormatException ex) {
+                sender.sendMessage("§cInvalid radius: " + args[1]);
+                return true;
+            }
+        }
+
+        final AdvancedSpiralManager manager = SpiralPlugin.getInstance().getAdvancedSpiralManager();
+        final Location location = player.getLocation();
+        final List<String> nearby = manager.listSpiralsNear(location, radius);
+        if (nearby.isEmpty()) {
+            sender.sendMessage("§7No spirals within " + radius + " blocks.");
+            return true;
+        }
+
+        nearby.sort(Comparator.comparingDouble(spiralId -> {
+            final AdvancedSpiralAnimation spiral = manager.getSpiral(spiralId);
+            return spiral != null ? spiral.distanceSquaredTo(location) : Double.MAX_VALUE;
+        }));
+
+        sender.sendMessage("§a✨ Spirals within " + radius + " blocks (" + nearby.size() + "):");
+        for (final String spiralId : nearby) {
+            final AdvancedSpiralAnimation spiral = manager.getSpiral(spiralId);
+            if (spiral == null) continue;
+
+            sender.sendMessage("§f• §7" + spiralId + " §8[§f" + spiral.getPreset().getName() + "§8, §7distance: §f"
+                + String.format("%.1f", Math.sqrt(spiral.distanceSquaredTo(location))) + "§8]");
+        }
+        return true;
+    }
+
     private boolean handleInfo(@NotNull final CommandSender sender) {
         final int spiralCount = SpiralPlugin.getInstance().getAdvancedSpiralManager().getActiveSpiralCount();
         
@@ -193,10 +267,88 @@ public final class AdvancedSpiralCommand implements CommandExecutor, TabComplete
         sender.sendMessage("§7Active Spirals: §f" + spiralCount);
         sender.sendMessage("§7Available Types: §f" + String.join(", ", getSpiralTypeNames()));
         sender.sendMessage("§7Premium Features: §fMultiple spirals, Advanced particles, Sound effects, Presets");
+
+        final SpiralParticleBatcher batcher = SpiralPlugin.getInstance().getTickEngine().getParticleBatcher();
+        if (batcher != null) {
+            sender.sendMessage("§7Particles: §f" + batcher.getSentParticles() + " sent, "
+                + batcher.getMergedParticles() + " merged, " + batcher.getDroppedParticles() + " dropped");
+        }
+
+        final SpiralSpawnScheduler spawnScheduler = SpiralPlugin.getInstance().getSpawnScheduler();
+        if (spawnScheduler.getPendingSpawns() > 0 || spawnScheduler.getPendingRemovals() > 0) {
+            sender.sendMessage("§7Pending displays: §f" + spawnScheduler.getPendingSpawns() + " to spawn, "
+                + spawnScheduler.getPendingRemovals() + " to remove");
+        }
+
+        final SpiralDisplayPool pool = SpiralPlugin.getInstance().getDisplayPool();
+        final long checkouts = pool.getHits() + pool.getMisses();
+        sender.sendMessage("§7Display pool: §f" + pool.getIdleCount() + " idle, " + pool.getHits() + " hits, "
+            + pool.getMisses() + " misses" + (checkouts > 0 ? " (" + (pool.getHits() * 100 / checkouts) + "% reused)" : "")
+            + ", " + pool.getPrewarmed() + " prewarmed");
+
+        final SpiralAdmissionController admission = SpiralPlugin.getInstance().getAdvancedSpiralManager().getAdmission();
+        sender.sendMessage("§7Admission (" + admission.getPolicy().name().toLowerCase() + "): §f"
+            + admission.getQueueLength() + " queued, " + admission.getRejected() + " rejected, "
+            + admission.getEvicted() + " evicted");
+
+        final SpiralFramePipeline pipeline = SpiralPlugin.getInstance().getTickEngine().getFramePipeline();
+        if (pipeline != null && pipeline.isEnabled()) {
+            sender.sendMessage("§7Frames: §f" + pipeline.getPrecomputedFrames() + " precomputed, "
+                + pipeline.getSynchronousFrames() + " computed on the main thread");
+        }
+        if (pipeline != null) {
+            final SpiralFrameCache cache = pipeline.getFrameCache();
+            sender.sendMessage("§7Frame cache: §f" + cache.getCycleCount() + " cycles, "
+                + String.format("%.1f", cache.getBytes() / (1024.0 * 1024.0)) + " MB, " + cache.getEvictions() + " evicted");
+        }
         
         return true;
     }
 
+    private boolean handleStats(@NotNull final CommandSender sender, @NotNull final String[] args) {
+        final SpiralStats stats = SpiralPlugin.getInstance().getStats();
+
+        if (args.length >= 2) {
+            final SpiralMetrics.Snapshot snapshot = stats.getSpiral(args[1]);
+            if (snapshot == null) {
+                sender.sendMessage("§cSpiral '" + args[1] + "' not found.");
+                return true;
+            }
+            sender.sendMessage("§a✨ Spiral Stats §f- §7" + args[1]);
+            sendSnapshot(sender, snapshot);
+            return true;
+        }
+
+        final SpiralTickEngine engine = SpiralPlugin.getInstance().getTickEngine();
+        sender.sendMessage("§a✨ Spiral Stats §f- §7All spirals");
+        sender.sendMessage("§7Active Spirals: §f" + SpiralPlugin.getInstance().getAdvancedSpiralManager().getActiveSpiralCount());
+        sender.sendMessage("§7Engine tick: §fp50 " + formatNanos(stats.getEngineTickPercentile(0.50))
+            + " §8| §fp95 " + formatNanos(stats.getEngineTickPercentile(0.95))
+            + " §8| §fp99 " + formatNanos(stats.getEngineTickPercentile(0.99)));
+        sender.sendMessage("§7Budget overruns: §f" + engine.getBudgetOverruns()
+            + " §8| §7deferred: §f" + engine.getDeferredUpdates() + " §8| §7degraded: §f" + engine.getDegradedUpdates());
+        sendSnapshot(sender, stats.getGlobal());
+        return true;
+    }
+
+    private void sendSnapshot(@NotNull final CommandSender sender, @NotNull final SpiralMetrics.Snapshot snapshot) {
+        sender.sendMessage("§7Update time: §fp50 " + formatNanos(snapshot.p50Nanos())
+            + " §8| §fp95 " + formatNanos(snapshot.p95Nanos())
+            + " §8| §fp99 " + formatNanos(snapshot.p99Nanos()) + " §8(§7" + snapshot.ticks() + " updates§8)");
+        sender.sendMessage("§7Entity updates: §f" + snapshot.entityUpdates()
+            + " §8| §7particles: §f" + snapshot.particles()
+            + " §8| §7packets (est.): §f" + snapshot.estimatedPackets());
+        sender.sendMessage("§7Suppressed updates: §f" + snapshot.suppressedUpdates()
+            + " §8(§f" + String.format("%.1f", snapshot.suppressedRatio() * 100.0) + "%§8)");
+    }
+
+    @NotNull
+    private static String formatNanos(final long nanos) {
+        return nanos >= 1_000_000L
+            ? String.format("%.2fms", nanos / 1_000_000.0)
+            : String.format("%.1fµs", nanos / 1_000.0);
+    }
+
     private boolean handlePresets(@NotNull final CommandSender sender) {
         sender.sendMessage("§a✨ Available Spiral Presets:");
         sender.sendMessage("§f• §c§lFire §8- §7Blazing tornado with magma blocks");
@@ -215,8 +367,10 @@ public final class AdvancedSpiralCommand implements CommandExecutor, TabComplete
         sender.sendMessage("§f/" + label + " preset <name> §8- §7Use premium presets");
         sender.sendMessage("§f/" + label + " stop [spiral_id] §8- §7Stop specific or all spirals");
         sender.sendMessage("§f/" + label + " list §8- §7List active spirals");
+        sender.sendMessage("§f/" + label + " near [radius] §8- §7List spirals around you");
         sender.sendMessage("§f/" + label + " presets §8- §7View available presets");
         sender.sendMessage("§f/" + label + " info §8- §7Plugin information");
+        sender.sendMessage("§f/" + label + " stats [spiral_id] §8- §7Performance statistics");
     }
 
     private List<String> getSpiralTypeNames() {
@@ -236,7 +390,7 @@ public final class AdvancedSpiralCommand implements CommandExecutor, TabComplete
 
         if (args.length == 1) {
             StringUtil.copyPartialMatches(args[0], 
-                Arrays.asList("start", "preset", "stop", "list", "info", "presets"), completions);
+                Arrays.asList("start", "preset", "stop", "list", "near", "info", "presets", "stats"), completions);
         } else if (args.length == 2) {
             switch (args[0].toLowerCase()) {
                 case "start":
@@ -247,6 +401,7 @@ public final class AdvancedSpiralCommand implements CommandExecutor, TabComplete
                         Arrays.asList("fire", "ice", "mystic", "nature", "classic"), completions);
                     break;
                 case "stop":
+                case "stats":
                     StringUtil.copyPartialMatches(args[1], 
                         SpiralPlugin.getInstance().getAdvancedSpiralManager().listActiveSpirals(), completions);
                     break;
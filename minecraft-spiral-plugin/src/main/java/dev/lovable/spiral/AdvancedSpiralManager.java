@@ -1,108 +1,496 @@
-
 package dev.lovable.spiral;
 
 import lombok.Getter;
+import org.bukkit.Bukkit;
 import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
+// Registry of running advanced spirals. Every spiral is one entry in an id-indexed map with secondary indexes by
+// owner and world plus a spatial index of centers, so lookups, starts and stops are O(1); the start-ordered
+// listing and the spatial grid are rebuilt lazily by the first read after a change, once per batch of changes.
+// Reads never lock and are safe from any thread. Starts and stops are serialized on a private lock so admission
+// decisions see consistent counts; the Bukkit side (spawning, removing displays) runs on the main thread after
+// the lock is released.
 public final class AdvancedSpiralManager {
 
-    // Global spirals visible to all players
-    private final Map<String, AdvancedSpiralAnimation> globalSpirals = new ConcurrentHashMap<>();
-    
-    // Per-player private spirals
-    private final Map<UUID, Map<String, AdvancedSpiralAnimation>> playerSpirals = new ConcurrentHashMap<>();
-    
+    private record Entry(@NotNull String id, int sequence, @NotNull AdvancedSpiralAnimation animation,
+                         @Nullable UUID owner, boolean playerSpiral, @NotNull UUID worldId) {}
+
+    private record Snapshot(long version, @NotNull List<Entry> entries) {}
+
+    private final Map<String, Entry> spirals = new ConcurrentHashMap<>();
+    private final Map<UUID, Set<String>> byOwner = new ConcurrentHashMap<>();
+    private final Map<UUID, Set<String>> byWorld = new ConcurrentHashMap<>();
+
+    @Getter
+    @NotNull private final SpiralSpatialIndex spatialIndex = new SpiralSpatialIndex();
+
+    // Immutable, start-ordered view; stale once version moved past it, and then rebuilt by the next reader
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(new Snapshot(0L, List.of()));
+
+    private final AtomicInteger nextSpiralId = new AtomicInteger(1);
+    private final AtomicInteger reservedDisplays = new AtomicInteger();
+    private final Object writeLock = new Object();
+    // Animation starts and stops, and messages, decided under writeLock and run once it is released
+    private final List<Runnable> pendingActions = new ArrayList<>();
+
     @Getter
-    private int nextSpiralId = 1;
+    @NotNull private final SpiralAdmissionController admission = new SpiralAdmissionController();
 
-    public synchronized boolean hasActiveSpirals() {
-        return !this.globalSpirals.isEmpty() || 
-               this.playerSpirals.values().stream().anyMatch(map -> !map.isEmpty());
+    public boolean hasActiveSpirals() {
+        return !this.spirals.isEmpty();
     }
 
-    public synchronized String startGlobalSpiral(@NotNull final Location center, @NotNull final SpiralPreset preset) {
-        final String spiralId = "global_" + this.nextSpiralId++;
-        final AdvancedSpiralAnimation animation = new AdvancedSpiralAnimation(center, preset);
-        
-        this.globalSpirals.put(spiralId, animation);
-        animation.start();
-        
-        SpiralPlugin.getInstance().getLogger().info("Started global spiral '" + spiralId + "' with preset: " + preset.getName());
+    public int getNextSpiralId() {
+        return this.nextSpiralId.get();
+    }
+
+    // Unowned spiral (console, API), started whatever the admission limits say, so it always returns the id as it
+    // did before admission control; it still counts towards the limits of later requests. Throws when the
+    // center's world is not loaded. requestGlobalSpiral goes through admission control instead.
+    @NotNull
+    public String startGlobalSpiral(@NotNull final Location center, @NotNull final SpiralPreset preset) {
+        return this.forceStart(center, preset, null, false);
+    }
+
+    // Started, queued or rejected by admission control; a queued result carries a future to follow or cancel it
+    @NotNull
+    public SpiralAdmissionController.Result requestGlobalSpiral(@NotNull final Location center,
+                                                               @NotNull final SpiralPreset preset,
+                                                               @Nullable final UUID owner,
+                                                               final int priority) {
+        return this.request(center, preset, owner, false, priority);
+    }
+
+    // Same contract as startGlobalSpiral, owned by the player
+    @NotNull
+    public String startPlayerSpiral(@NotNull final Player player, @NotNull final SpiralPreset preset) {
+        return this.forceStart(player.getLocation(), preset, player.getUniqueId(), true);
+    }
+
+    @NotNull
+    public SpiralAdmissionController.Result requestPlayerSpiral(@NotNull final Player player,
+                                                               @NotNull final SpiralPreset preset,
+                                                               final int priority) {
+        return this.request(player.getLocation(), preset, player.getUniqueId(), true, priority);
+    }
+
+    public boolean stopSpiral(@NotNull final String spiralId) {
+        final boolean stopped;
+        synchronized (this.writeLock) {
+            stopped = this.removeSpiral(spiralId);
+            if (stopped) {
+                this.drainQueue();
+            }
+        }
+        this.runPendingActions();
+        return stopped;
+    }
+
+    public void stopAllGlobalSpirals() {
+        synchronized (this.writeLock) {
+            for (final Entry entry : this.spirals.values()) {
+                if (!entry.playerSpiral()) {
+                    this.removeSpiral(entry.id());
+                }
+            }
+            this.drainQueue();
+        }
+        this.runPendingActions();
+    }
+
+    public void stopAllPlayerSpirals(@NotNull final UUID playerId) {
+        synchronized (this.writeLock) {
+            for (final String spiralId : this.idsOf(this.byOwner.get(playerId))) {
+                final Entry entry = this.spirals.get(spiralId);
+                if (entry != null && entry.playerSpiral()) {
+                    this.removeSpiral(spiralId);
+                }
+            }
+            this.drainQueue();
+        }
+        this.runPendingActions();
+    }
+
+    public void stopAllSpirals() {
+        synchronized (this.writeLock) {
+            // Stopping everything (e.g. on disable) must not start queued requests; their owners are told instead
+            for (final SpiralAdmissionController.Request dropped : this.admission.clearQueue()) {
+                this.pendingActions.add(() -> dropped.started().complete(null));
+                final Player owner = dropped.owner() != null ? Bukkit.getPlayer(dropped.owner()) : null;
+                if (owner != null) {
+                    this.pendingActions.add(() -> owner.sendMessage("§cYour queued spiral request was dropped because all spirals were stopped."));
+                }
+            }
+            for (final Entry entry : this.spirals.values()) {
+                this.removeSpiral(entry.id());
+            }
+        }
+        this.runPendingActions();
+    }
+
+    @Nullable
+    public AdvancedSpiralAnimation getSpiral(@NotNull final String spiralId) {
+        final Entry entry = this.spirals.get(spiralId);
+        return entry != null ? entry.animation() : null;
+    }
+
+    @Nullable
+    public UUID getOwner(@NotNull final String spiralId) {
+        final Entry entry = this.spirals.get(spiralId);
+        return entry != null ? entry.owner() : null;
+    }
+
+    @NotNull
+    public List<AdvancedSpiralAnimation> getSpirals() {
+        final List<Entry> entries = this.entries();
+        final List<AdvancedSpiralAnimation> animations = new ArrayList<>(entries.size());
+        for (final Entry entry : entries) {
+            animations.add(entry.animation());
+        }
+        return animations;
+    }
+
+    @NotNull
+    public List<String> listActiveSpirals() {
+        final List<Entry> entries = this.entries();
+        final List<String> ids = new ArrayList<>(entries.size());
+        for (final Entry entry : entries) {
+            ids.add(entry.id());
+        }
+        return ids;
+    }
+
+    @NotNull
+    public List<AdvancedSpiralAnimation> getSpiralsOwnedBy(@NotNull final UUID owner) {
+        return this.animationsOf(this.byOwner.get(owner));
+    }
+
+    @NotNull
+    public List<AdvancedSpiralAnimation> getSpiralsInWorld(@NotNull final World world) {
+        return this.animationsOf(this.byWorld.get(world.getUID()));
+    }
+
+    // Spirals whose center lies in the given chunk
+    @NotNull
+    public List<AdvancedSpiralAnimation> getSpiralsInChunk(@NotNull final World world, final int chunkX, final int chunkZ) {
+        final List<AdvancedSpiralAnimation> animations = new ArrayList<>();
+        this.spatialIndex.collectInChunk(world, chunkX, chunkZ, animations);
+        return animations;
+    }
+
+    // Ids of the spirals within radius of a location; hot paths should query the spatial index with a reused list
+    @NotNull
+    public List<String> listSpiralsNear(@NotNull final Location location, final double radius) {
+        final List<String> ids = new ArrayList<>();
+        this.spatialIndex.collectIdsNear(location, radius, ids);
+        return ids;
+    }
+
+    public int getActiveSpiralCount() {
+        return this.spirals.size();
+    }
+
+    public int getOwnedSpiralCount(@NotNull final UUID owner) {
+        final Set<String> owned = this.byOwner.get(owner);
+        return owned != null ? owned.size() : 0;
+    }
+
+    // Displays reserved by running spirals, hibernating ones included since they respawn on wake
+    public int getReservedDisplayCount() {
+        return this.reservedDisplays.get();
+    }
+
+    @NotNull
+    private String forceStart(@NotNull final Location center, @NotNull final SpiralPreset preset,
+                              @Nullable final UUID owner, final boolean playerSpiral) {
+        if (center.getWorld() == null) {
+            throw new IllegalArgumentException("The world of the spiral center is not loaded");
+        }
+
+        final String spiralId;
+        synchronized (this.writeLock) {
+            spiralId = this.started(this.launch(center, preset, owner, playerSpiral)).spiralId();
+        }
+        this.runPendingActions();
         return spiralId;
     }
 
-    public synchronized String startPlayerSpiral(@NotNull final Player player, @NotNull final SpiralPreset preset) {
-        final UUID playerId = player.getUniqueId();
-        final String spiralId = "player_" + player.getName() + "_" + this.nextSpiralId++;
-        
-        this.playerSpirals.computeIfAbsent(playerId, k -> new HashMap<>());
-        
-        final AdvancedSpiralAnimation animation = new AdvancedSpiralAnimation(player.getLocation(), preset);
-        this.playerSpirals.get(playerId).put(spiralId, animation);
-        animation.start();
-        
+    @NotNull
+    private SpiralAdmissionController.Result request(@NotNull final Location center, @NotNull final SpiralPreset preset,
+                                                     @Nullable final UUID owner, final boolean playerSpiral,
+                                                     final int priority) {
+        final SpiralAdmissionController.Result result;
+        synchronized (this.writeLock) {
+            result = this.admit(center, preset, owner, playerSpiral, priority);
+        }
+        this.runPendingActions();
+        return result;
+    }
+
+    // Caller holds writeLock
+    @NotNull
+    private SpiralAdmissionController.Result admit(@NotNull final Location center, @NotNull final SpiralPreset preset,
+                                                   @Nullable final UUID owner, final boolean playerSpiral,
+                                                   final int priority) {
+        if (center.getWorld() == null) {
+            this.admission.recordRejected();
+            return new SpiralAdmissionController.Result(SpiralAdmissionController.Status.REJECTED, null,
+                "The world is not loaded", null);
+        }
+
+        final String reason = this.capacityProblem(owner, preset);
+        if (reason == null) {
+            return this.started(this.launch(center, preset, owner, playerSpiral));
+        }
+
+        switch (this.admission.getPolicy()) {
+            case EVICT:
+                if (this.evictFor(owner, preset)) {
+                    return this.started(this.launch(center, preset, owner, playerSpiral));
+                }
+                break;
+            case QUEUE:
+                // A request that could never fit is not worth queueing
+                if (this.admission.check(false, 0, 0, 0, preset.getDisplayCount()) == null) {
+                    final SpiralAdmissionController.Request queued =
+                        this.admission.enqueue(center, preset, owner, playerSpiral, priority);
+                    if (queued != null) {
+                        queued.started().whenComplete((spiralId, ex) -> {
+                            if (queued.started().isCancelled()) this.withdraw(queued);
+                        });
+                        return new SpiralAdmissionController.Result(SpiralAdmissionController.Status.QUEUED, null,
+                            reason, queued.started());
+                    }
+                }
+                break;
+            default:
+                break;
+        }
+
+        this.admission.recordRejected();
+        return new SpiralAdmissionController.Result(SpiralAdmissionController.Status.REJECTED, null, reason, null);
+    }
+
+    @NotNull
+    private SpiralAdmissionController.Result started(@NotNull final String spiralId) {
+        this.admission.recordAdmitted();
+        return new SpiralAdmissionController.Result(SpiralAdmissionController.Status.STARTED, spiralId, null, null);
+    }
+
+    // A queued request whose future the caller cancelled
+    private void withdraw(@NotNull final SpiralAdmissionController.Request request) {
+        synchronized (this.writeLock) {
+            this.admission.remove(request);
+        }
+    }
+
+    @Nullable
+    private String capacityProblem(@Nullable final UUID owner, @NotNull final SpiralPreset preset) {
+        return this.admission.check(owner != null, owner != null ? this.getOwnedSpiralCount(owner) : 0,
+            this.getActiveSpiralCount(), this.getReservedDisplayCount(), preset.getDisplayCount());
+    }
+
+    // Caller holds writeLock and checked that the center's world is loaded
+    @NotNull
+    private String launch(@NotNull final Location center, @NotNull final SpiralPreset preset,
+                          @Nullable final UUID owner, final boolean playerSpiral) {
+        final int sequence = this.nextSpiralId.getAndIncrement();
+        final String spiralId;
+        if (playerSpiral && owner != null) {
+            final Player player = Bukkit.getPlayer(owner);
+            spiralId = "player_" + (player != null ? player.getName() : owner) + "_" + sequence;
+        } else {
+            spiralId = "global_" + sequence;
+            SpiralPlugin.getInstance().getLogger().info("Started global spiral '" + spiralId + "' with preset: " + preset.getName());
+        }
+
+        final AdvancedSpiralAnimation animation = new AdvancedSpiralAnimation(center, preset);
+        final Entry entry = new Entry(spiralId, sequence, animation, owner, playerSpiral && owner != null,
+            center.getWorld().getUID());
+
+        this.spirals.put(spiralId, entry);
+        if (owner != null) {
+            this.byOwner.computeIfAbsent(owner, key -> ConcurrentHashMap.newKeySet()).add(spiralId);
+        }
+        this.byWorld.computeIfAbsent(entry.worldId(), key -> ConcurrentHashMap.newKeySet()).add(spiralId);
+        this.spatialIndex.add(spiralId, animation);
+        this.reservedDisplays.addAndGet(preset.getDisplayCount());
+        this.version.incrementAndGet();
+
+        // Skipped when the spiral was stopped again before the start ran
+        this.pendingActions.add(() -> {
+            if (this.spirals.get(spiralId) == entry) {
+                animation.start();
+            }
+        });
         return spiralId;
     }
 
-    public synchronized boolean stopSpiral(@NotNull final String spiralId) {
-        // Try global spirals first
-        final AdvancedSpiralAnimation globalSpiral = this.globalSpirals.remove(spiralId);
-        if (globalSpiral != null) {
-            globalSpiral.stop();
-            return true;
+    // Caller holds writeLock
+    private boolean removeSpiral(@NotNull final String spiralId) {
+        final Entry entry = this.spirals.remove(spiralId);
+        if (entry == null) return false;
+
+        if (entry.owner() != null) {
+            removeFromIndex(this.byOwner, entry.owner(), spiralId);
         }
+        removeFromIndex(this.byWorld, entry.worldId(), spiralId);
+        this.spatialIndex.remove(spiralId, entry.animation());
+        this.reservedDisplays.addAndGet(-entry.animation().getPreset().getDisplayCount());
+        this.version.incrementAndGet();
+
+        this.pendingActions.add(entry.animation()::stop);
+        return true;
+    }
+
+    // Picks the least recently viewed spirals whose removal makes room (the owner's own first when the
+    // owner is at the per-player limit) and stops them; stops nothing when no such set exists.
+    // Caller holds writeLock.
+    private boolean evictFor(@Nullable final UUID owner, @NotNull final SpiralPreset preset) {
+        final List<Entry> candidates = new ArrayList<>(this.spirals.values());
+        candidates.sort(Comparator.comparingLong(entry -> entry.animation().getLastViewedTick()));
 
-        // Try player spirals
-        for (final Map<String, AdvancedSpiralAnimation> playerMap : this.playerSpirals.values()) {
-            final AdvancedSpiralAnimation playerSpiral = playerMap.remove(spiralId);
-            if (playerSpiral != null) {
-                playerSpiral.stop();
-                return true;
+        int ownerSpirals = owner != null ? this.getOwnedSpiralCount(owner) : 0;
+        int globalSpirals = this.getActiveSpiralCount();
+        int displays = this.getReservedDisplayCount();
+        final Set<String> victims = new LinkedHashSet<>();
+
+        if (owner != null && this.admission.getMaxPerPlayer() > 0) {
+            for (final Entry candidate : candidates) {
+                if (ownerSpirals < this.admission.getMaxPerPlayer()) break;
+                if (!owner.equals(candidate.owner())) continue;
+
+                victims.add(candidate.id());
+                ownerSpirals--;
+                globalSpirals--;
+                displays -= candidate.animation().getPreset().getDisplayCount();
             }
         }
-        
-        return false;
+
+        for (final Entry candidate : candidates) {
+            if (this.admission.check(owner != null, ownerSpirals, globalSpirals, displays, preset.getDisplayCount()) == null) break;
+            if (!victims.add(candidate.id())) continue;
+
+            if (owner != null && owner.equals(candidate.owner())) ownerSpirals--;
+            globalSpirals--;
+            displays -= candidate.animation().getPreset().getDisplayCount();
+        }
+
+        if (this.admission.check(owner != null, ownerSpirals, globalSpirals, displays, preset.getDisplayCount()) != null) {
+            return false;
+        }
+
+        for (final String victim : victims) {
+            SpiralPlugin.getInstance().getLogger().info("Evicted spiral '" + victim + "' to make room for a new one.");
+            this.removeSpiral(victim);
+        }
+        this.admission.recordEvicted(victims.size());
+        return true;
     }
 
-    public synchronized void stopAllGlobalSpirals() {
-        this.globalSpirals.values().forEach(AdvancedSpiralAnimation::stop);
-        this.globalSpirals.clear();
+    // Starts queued requests in priority order for as long as the head of the queue fits. Caller holds writeLock.
+    private void drainQueue() {
+        SpiralAdmissionController.Request next;
+        while ((next = this.admission.peek()) != null) {
+            final CompletableFuture<String> started = next.started();
+            if (started.isDone()) {
+                // Cancelled by the caller while it was being withdrawn
+                this.admission.poll();
+                continue;
+            }
+            if (next.center().getWorld() == null || (next.playerSpiral() && Bukkit.getPlayer(next.owner()) == null)) {
+                this.admission.poll();
+                this.pendingActions.add(() -> started.complete(null));
+                continue;
+            }
+            if (this.capacityProblem(next.owner(), next.preset()) != null) return;
+
+            this.admission.poll();
+            final String spiralId = this.started(this.launch(next.center(), next.preset(), next.owner(), next.playerSpiral())).spiralId();
+            this.pendingActions.add(() -> started.complete(spiralId));
+
+            final Player owner = next.owner() != null ? Bukkit.getPlayer(next.owner()) : null;
+            if (owner != null) {
+                this.pendingActions.add(() -> owner.sendMessage("§a✨ Your queued spiral '" + spiralId + "' has started."));
+            }
+        }
+    }
+
+    // Start-ordered entries; the first reader after a change rebuilds them, so a batch of starts or stops costs
+    // one rebuild and writers never copy the list
+    @NotNull
+    private List<Entry> entries() {
+        final Snapshot current = this.snapshot.get();
+        final long version = this.version.get();
+        if (current.version() == version) return current.entries();
+
+        final List<Entry> entries = new ArrayList<>(this.spirals.values());
+        entries.sort(Comparator.comparingInt(Entry::sequence));
+        final Snapshot rebuilt = new Snapshot(version, List.copyOf(entries));
+        // Losing the race only means another reader published a snapshot at least as new
+        this.snapshot.compareAndSet(current, rebuilt);
+        return rebuilt.entries();
     }
 
-    public synchronized void stopAllPlayerSpirals(@NotNull final UUID playerId) {
-        final Map<String, AdvancedSpiralAnimation> playerMap = this.playerSpirals.get(playerId);
-        if (playerMap != null) {
-            playerMap.values().forEach(AdvancedSpiralAnimation::stop);
-            playerMap.clear();
+    // Runs what the last writes decided, outside writeLock so animations never start or stop while it is held
+    private void runPendingActions() {
+        final List<Runnable> actions;
+        synchronized (this.writeLock) {
+            if (this.pendingActions.isEmpty()) return;
+
+            actions = new ArrayList<>(this.pendingActions);
+            this.pendingActions.clear();
+        }
+        for (final Runnable action : actions) {
+            runOnMainThread(action);
         }
     }
 
-    public synchronized void stopAllSpirals() {
-        stopAllGlobalSpirals();
-        
-        for (final UUID playerId : this.playerSpirals.keySet()) {
-            stopAllPlayerSpirals(playerId);
+    @NotNull
+    private List<AdvancedSpiralAnimation> animationsOf(@Nullable final Set<String> ids) {
+        if (ids == null || ids.isEmpty()) return List.of();
+
+        final List<AdvancedSpiralAnimation> animations = new ArrayList<>(ids.size());
+        for (final String spiralId : ids) {
+            final Entry entry = this.spirals.get(spiralId);
+            if (entry != null) {
+                animations.add(entry.animation());
+            }
         }
-        this.playerSpirals.clear();
+        return animations;
     }
 
-    public synchronized List<String> listActiveSpirals() {
-        final List<String> spirals = new ArrayList<>();
-        spirals.addAll(this.globalSpirals.keySet());
-        
-        this.playerSpirals.values().forEach(playerMap -> spirals.addAll(playerMap.keySet()));
-        return spirals;
+    @NotNull
+    private List<String> idsOf(@Nullable final Set<String> ids) {
+        return ids != null ? new ArrayList<>(ids) : List.of();
     }
 
-    public synchronized int getActiveSpiralCount() {
-        int total = this.globalSpirals.size();
-        total += this.playerSpirals.values().stream().mapToInt(Map::size).sum();
-        return total;
+    private static <K> void removeFromIndex(@NotNull final Map<K, Set<String>> index, @NotNull final K key,
+                                            @NotNull final String spiralId) {
+        index.computeIfPresent(key, (ignored, ids) -> {
+            ids.remove(spiralId);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    // Spawning and removing displays is only allowed on the main thread; async callers have it scheduled
+    private static void runOnMainThread(@NotNull final Runnable task) {
+        if (Bukkit.isPrimaryThread()) {
+            task.run();
+        } else {
+            Bukkit.getScheduler().runTask(SpiralPlugin.getInstance(), task);
+        }
     }
 }
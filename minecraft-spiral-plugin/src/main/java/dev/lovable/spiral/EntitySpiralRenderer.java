@@ -0,0 +1,133 @@
+package dev.lovable.spiral;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.entity.BlockDisplay;
+import org.jetbrains.annotations.NotNull;
+import org.joml.Matrix4f;
+
+// Default backend: every segment is a real BlockDisplay entity, checked out of and released to the display pool
+public final class EntitySpiralRenderer implements SpiralRenderer {
+
+    // Largest teleport duration the client accepts
+    private static final int MAX_TELEPORT_DURATION = 59;
+
+    @NotNull private final SpiralPreset preset;
+    private final BlockDisplay[] displays;
+    // Interpolation duration last set on each display, so it is only sent when it changes
+    private final int[] interpolation;
+    // Teleport duration last set on each display; it is what smooths position, interpolation only the transformation
+    private final int[] teleportDuration;
+
+    // Translation times spin about Y, unit scale; the display copies it, so one matrix serves every call.
+    // Going through a Transformation would copy each of its four parts once more per segment.
+    private final Matrix4f transformation = new Matrix4f();
+
+    public EntitySpiralRenderer(@NotNull final SpiralPreset preset, final int size) {
+        this.preset = preset;
+        this.displays = new BlockDisplay[size];
+        this.interpolation = new int[size];
+        this.teleportDuration = new int[size];
+    }
+
+    @Override
+    public void spawn(final int index, @NotNull final Location location, @NotNull final BlockData blockData) {
+        final World world = location.getWorld();
+        if (world == null) return;
+
+        this.displays[index] = SpiralPlugin.getInstance().getDisplayPool().checkout(world, location, blockData, this.preset);
+        this.interpolation[index] = this.preset.getInterpolationTicks();
+        this.teleportDuration[index] = 0;
+    }
+
+    @Override
+    public void move(final int index, @NotNull final Location location, final int interpolationTicks) {
+        final BlockDisplay display = this.displays[index];
+        if (display == null) return;
+
+        try {
+            this.setInterpolation(index, display, interpolationTicks);
+            this.setTeleportDuration(index, display, Math.min(interpolationTicks, MAX_TELEPORT_DURATION));
+            display.teleport(location);
+        } catch (final Exception ex) {
+            // Skip this display if teleport fails
+        }
+    }
+
+    @Override
+    public void rotate(final int index, final float angle) {
+        final BlockDisplay display = this.displays[index];
+        if (display == null) return;
+
+        try {
+            display.setTransformationMatrix(this.transformation.rotationY(angle));
+        } catch (final Exception ex) {
+            // Skip this display if the transformation update fails
+        }
+    }
+
+    @Override
+    public void transform(final int index, final float offsetX, final float offsetY, final float offsetZ,
+                          final float angle, final int interpolationTicks) {
+        final BlockDisplay display = this.displays[index];
+        if (display == null) return;
+
+        try {
+            // A zero delay restarts client-side interpolation from the current pose
+            display.setInterpolationDelay(0);
+            this.setInterpolation(index, display, interpolationTicks);
+            display.setTransformationMatrix(this.transformation.translation(offsetX, offsetY, offsetZ).rotateY(angle));
+        } catch (final Exception ex) {
+            // Skip this display if the transformation update fails
+        }
+    }
+
+    private void setInterpolation(final int index, @NotNull final BlockDisplay display, final int interpolationTicks) {
+        if (this.interpolation[index] == interpolationTicks) return;
+
+        display.setInterpolationDuration(interpolationTicks);
+        this.interpolation[index] = interpolationTicks;
+    }
+
+    private void setTeleportDuration(final int index, @NotNull final BlockDisplay display, final int ticks) {
+        if (this.teleportDuration[index] == ticks) return;
+
+        display.setTeleportDuration(ticks);
+        this.teleportDuration[index] = ticks;
+    }
+
+    @Override
+    public void setVisible(final int index, final boolean visible) {
+        final BlockDisplay display = this.displays[index];
+        if (display == null) return;
+
+        try {
+            // A zero view range keeps the entity but stops clients from rendering it
+            display.setViewRange(visible ? 1.0f : 0.0f);
+        } catch (final Exception ignored) {}
+    }
+
+    @Override
+    public boolean isSpawned(final int index) {
+        return this.displays[index] != null;
+    }
+
+    @Override
+    public void remove(final int index) {
+        final BlockDisplay display = this.displays[index];
+        if (display == null) return;
+
+        try {
+            SpiralPlugin.getInstance().getDisplayPool().release(display);
+        } catch (final Exception ignored) {}
+        this.displays[index] = null;
+    }
+
+    @Override
+    public void removeAll() {
+        for (int i = 0; i < this.displays.length; i++) {
+            this.remove(i);
+        }
+    }
+}
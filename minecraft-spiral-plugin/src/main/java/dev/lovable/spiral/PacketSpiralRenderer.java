@@ -0,0 +1,275 @@
+package dev.lovable.spiral;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+// Virtual displays that only exist on the viewers' clients: no entity tracking, chunk storage or saving
+public final class PacketSpiralRenderer implements SpiralRenderer {
+
+    private static final int VIEWER_REFRESH_FRAMES = 10;
+    private static final int MAX_TELEPORT_DURATION = 59;
+
+    @NotNull private final SpiralPreset preset;
+    @NotNull private final SpiralPacketSender sender;
+
+    private final int[] entityIds;
+    private final UUID[] uuids;
+    private final BlockData[] blocks;
+    private final double[] x;
+    private final double[] y;
+    private final double[] z;
+    private final float[] angles;
+    private final float[] offsetX;
+    private final float[] offsetY;
+    private final float[] offsetZ;
+    private final boolean[] hidden;
+    // Teleport duration last sent for each display, so the metadata is only sent when it changes
+    private final int[] teleportDuration;
+
+    private final List<Player> viewers = new ArrayList<>();
+    // Reused by every viewer refresh so it does not allocate a Location per player
+    private final Location scratchLocation = new Location(null, 0.0, 0.0, 0.0);
+    private final double rangeSquared;
+    private int frames = 0;
+
+    public PacketSpiralRenderer(@NotNull final SpiralPreset preset, final int size, @NotNull final SpiralPacketSender sender) {
+        this.preset = preset;
+        this.sender = sender;
+        this.entityIds = new int[size];
+        this.uuids = new UUID[size];
+        this.blocks = new BlockData[size];
+        this.x = new double[size];
+        this.y = new double[size];
+        this.z = new double[size];
+        this.angles = new float[size];
+        this.offsetX = new float[size];
+        this.offsetY = new float[size];
+        this.offsetZ = new float[size];
+        this.hidden = new boolean[size];
+        this.teleportDuration = new int[size];
+
+        final double range = SpiralPlugin.getInstance().getConfig().getDouble("packet-view-distance", 64.0);
+        this.rangeSquared = range * range;
+    }
+
+    @Override
+    public void spawn(final int index, @NotNull final Location location, @NotNull final BlockData blockData) {
+        // Ids come from the server counter so they never collide with real entities
+        this.entityIds[index] = Bukkit.getUnsafe().nextEntityId();
+        this.uuids[index] = UUID.randomUUID();
+        this.blocks[index] = blockData;
+        this.x[index] = location.getX();
+        this.y[index] = location.getY();
+        this.z[index] = location.getZ();
+        this.angles[index] = 0.0f;
+        this.offsetX[index] = 0.0f;
+        this.offsetY[index] = 0.0f;
+        this.offsetZ[index] = 0.0f;
+        this.hidden[index] = false;
+        this.teleportDuration[index] = 0;
+
+        for (int i = 0; i < this.viewers.size(); i++) {
+            this.sendSpawn(this.viewers.get(i), index);
+        }
+    }
+
+    @Override
+    public void beginFrame(@NotNull final Location center) {
+        if (this.frames++ % VIEWER_REFRESH_FRAMES == 0) {
+            this.refreshViewers(center);
+        }
+    }
+
+    // Nobody sees a suspended spiral, and beginFrame does not run until it resumes: drop every viewer now and
+    // rebuild the set on the first frame after resuming, so returning players get a fresh spawn
+    @Override
+    public void suspend() {
+        final int[] spawned = this.spawnedIds();
+        if (spawned.length > 0) {
+            for (final Player viewer : this.viewers) {
+                if (viewer.isOnline()) {
+                    this.sender.sendDestroy(viewer, spawned);
+                }
+            }
+        }
+        this.viewers.clear();
+        this.frames = 0;
+    }
+
+    @Override
+    public void move(final int index, @NotNull final Location location, final int interpolationTicks) {
+        if (this.blocks[index] == null) return;
+
+        this.x[index] = location.getX();
+        this.y[index] = location.getY();
+        this.z[index] = location.getZ();
+        final int duration = Math.min(interpolationTicks, MAX_TELEPORT_DURATION);
+        final boolean durationChanged = this.teleportDuration[index] != duration;
+        this.teleportDuration[index] = duration;
+        if (this.hidden[index]) return;
+
+        for (int i = 0; i < this.viewers.size(); i++) {
+            final Player viewer = this.viewers.get(i);
+            if (durationChanged) {
+                this.sender.sendTeleportDuration(viewer, this.entityIds[index], duration);
+            }
+            this.sender.sendTeleport(viewer, this.entityIds[index],
+                this.x[index], this.y[index], this.z[index], interpolationTicks);
+        }
+    }
+
+    @Override
+    public void rotate(final int index, final float angle) {
+        if (this.blocks[index] == null) return;
+
+        this.angles[index] = angle;
+        if (this.hidden[index]) return;
+        for (int i = 0; i < this.viewers.size(); i++) {
+            this.sender.sendRotation(this.viewers.get(i), this.entityIds[index], angle, this.preset.getInterpolationTicks());
+        }
+    }
+
+    @Override
+    public void transform(final int index, final float offsetX, final float offsetY, final float offsetZ,
+                          final float angle, final int interpolationTicks) {
+        if (this.blocks[index] == null) return;
+
+        this.offsetX[index] = offsetX;
+        this.offsetY[index] = offsetY;
+        this.offsetZ[index] = offsetZ;
+        this.angles[index] = angle;
+        if (this.hidden[index]) return;
+        for (int i = 0; i < this.viewers.size(); i++) {
+            this.sender.sendTransformation(this.viewers.get(i), this.entityIds[index], offsetX, offsetY, offsetZ, angle, interpolationTicks);
+        }
+    }
+
+    @Override
+    public void setVisible(final int index, final boolean visible) {
+        if (this.blocks[index] == null || this.hidden[index] != visible) return;
+
+        this.hidden[index] = !visible;
+        for (final Player viewer : this.viewers) {
+            if (visible) {
+                this.sendSpawn(viewer, index);
+            } else {
+                this.sender.sendDestroy(viewer, new int[] { this.entityIds[index] });
+            }
+        }
+    }
+
+    @Override
+    public boolean isSpawned(final int index) {
+        return this.blocks[index] != null;
+    }
+
+    @Override
+    public void remove(final int index) {
+        if (this.blocks[index] == null) return;
+
+        final int[] destroyed = { this.entityIds[index] };
+        for (final Player viewer : this.viewers) {
+            this.sender.sendDestroy(viewer, destroyed);
+        }
+        this.blocks[index] = null;
+        this.uuids[index] = null;
+    }
+
+    @Override
+    public void removeAll() {
+        final int[] destroyed = this.spawnedIds();
+        if (destroyed.length > 0) {
+            for (final Player viewer : this.viewers) {
+                this.sender.sendDestroy(viewer, destroyed);
+            }
+        }
+
+        for (int i = 0; i < this.blocks.length; i++) {
+            this.blocks[i] = null;
+            this.uuids[i] = null;
+        }
+        this.viewers.clear();
+    }
+
+    @Override
+    public boolean hasBulkRemoval() {
+        return true;
+    }
+
+    private void refreshViewers(@NotNull final Location center) {
+        final World world = center.getWorld();
+
+        // Drop viewers that left, changed world or walked out of range
+        int[] spawned = null;
+        for (int i = this.viewers.size() - 1; i >= 0; i--) {
+            final Player viewer = this.viewers.get(i);
+            if (viewer.isOnline() && world != null && viewer.getWorld().equals(world)
+                && viewer.getLocation(this.scratchLocation).distanceSquared(center) <= this.rangeSquared) continue;
+
+            this.viewers.remove(i);
+            if (!viewer.isOnline()) continue;
+            if (spawned == null) {
+                spawned = this.spawnedIds();
+            }
+            if (spawned.length > 0) {
+                this.sender.sendDestroy(viewer, spawned);
+            }
+        }
+
+        if (world != null) {
+            final List<Player> players = world.getPlayers();
+            for (int i = 0; i < players.size(); i++) {
+                final Player player = players.get(i);
+                if (this.viewers.contains(player)) continue;
+                if (player.getLocation(this.scratchLocation).distanceSquared(center) > this.rangeSquared) continue;
+
+                this.viewers.add(player);
+                for (int index = 0; index < this.blocks.length; index++) {
+                    if (this.blocks[index] != null && !this.hidden[index]) {
+                        this.sendSpawn(player, index);
+                    }
+                }
+            }
+        }
+        this.scratchLocation.setWorld(null);
+    }
+
+    private void sendSpawn(@NotNull final Player viewer, final int index) {
+        this.sender.sendSpawn(viewer, this.entityIds[index], this.uuids[index],
+            this.x[index], this.y[index], this.z[index],
+            this.blocks[index], this.preset.isGlowEffect(), this.preset.getInterpolationTicks());
+        if (this.teleportDuration[index] != 0) {
+            this.sender.sendTeleportDuration(viewer, this.entityIds[index], this.teleportDuration[index]);
+        }
+        if (this.offsetX[index] != 0.0f || this.offsetY[index] != 0.0f || this.offsetZ[index] != 0.0f) {
+            this.sender.sendTransformation(viewer, this.entityIds[index],
+                this.offsetX[index], this.offsetY[index], this.offsetZ[index], this.angles[index], 0);
+        } else if (this.angles[index] != 0.0f) {
+            this.sender.sendRotation(viewer, this.entityIds[index], this.angles[index], 0);
+        }
+    }
+
+    private int[] spawnedIds() {
+        int count = 0;
+        for (final BlockData block : this.blocks) {
+            if (block != null) count++;
+        }
+
+        final int[] ids = new int[count];
+        int next = 0;
+        for (int i = 0; i < this.blocks.length; i++) {
+            if (this.blocks[i] != null) {
+                ids[next++] = this.entityIds[i];
+            }
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,133 @@
+package dev.lovable.spiral;
+
+import lombok.Getter;
+import org.bukkit.Location;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.PriorityBlockingQueue;
+
+// Capacity rules for new spirals: max-spirals-per-player, max-global-spirals and max-display-entities.
+// Checks only compare counters, so a request over capacity is turned away before anything is spawned.
+// What happens then is the admission-policy: reject it, queue it until capacity frees up, or evict the
+// least recently viewed spirals to make room. Mutated by AdvancedSpiralManager under its lock; the
+// counters and queue length can be read from any thread.
+public final class SpiralAdmissionController {
+
+    public enum Policy { REJECT, QUEUE, EVICT }
+
+    public enum Status { STARTED, QUEUED, REJECTED }
+
+    // pending is only set when QUEUED: it completes with the spiral id once the spiral starts, or with null when
+    // the request is dropped; cancelling it withdraws the request. It completes on the main thread.
+    public record Result(@NotNull Status status, @Nullable String spiralId, @Nullable String reason,
+                         @Nullable CompletableFuture<String> pending) {}
+
+    record Request(@NotNull Location center, @NotNull SpiralPreset preset, @Nullable UUID owner,
+                   boolean playerSpiral, int priority, long sequence, @NotNull CompletableFuture<String> started) {}
+
+    @Getter private final int maxPerPlayer;
+    @Getter private final int maxGlobal;
+    @Getter private final int maxDisplays;
+    @Getter @NotNull private final Policy policy;
+    private final int queueSize;
+
+    // Highest priority first, then first come first served
+    private final PriorityBlockingQueue<Request> queue = new PriorityBlockingQueue<>(11,
+        Comparator.comparingInt(Request::priority).reversed().thenComparingLong(Request::sequence));
+    private long sequence = 0L;
+
+    @Getter private volatile long admitted = 0L;
+    @Getter private volatile long queued = 0L;
+    @Getter private volatile long rejected = 0L;
+    @Getter private volatile long evicted = 0L;
+
+    public SpiralAdmissionController() {
+        this.maxPerPlayer = SpiralPlugin.getInstance().getConfig().getInt("max-spirals-per-player", 3);
+        this.maxGlobal = SpiralPlugin.getInstance().getConfig().getInt("max-global-spirals", 10);
+        this.maxDisplays = SpiralPlugin.getInstance().getConfig().getInt("max-display-entities", 2000);
+        this.queueSize = Math.max(0, SpiralPlugin.getInstance().getConfig().getInt("admission-queue-size", 16));
+
+        final String policyName = SpiralPlugin.getInstance().getConfig().getString("admission-policy", "queue");
+        Policy parsed;
+        try {
+            parsed = Policy.valueOf(policyName.toUpperCase());
+        } catch (final IllegalArgumentException ex) {
+            SpiralPlugin.getInstance().getLogger().warning("Unknown admission-policy '" + policyName + "', using queue.");
+            parsed = Policy.QUEUE;
+        }
+        this.policy = parsed;
+    }
+
+    // Why a spiral with the given display count does not fit next to the current load, or null when it does.
+    // Limits of 0 or less are unlimited; spirals without an owner are not subject to the per-player limit.
+    @Nullable
+    public String check(final boolean owned, final int ownerSpirals, final int globalSpirals,
+                        final int displays, final int requestedDisplays) {
+        if (owned && this.maxPerPlayer > 0 && ownerSpirals >= this.maxPerPlayer) {
+            return "You already have " + ownerSpirals + " spirals (max " + this.maxPerPlayer + ")";
+        }
+        if (this.maxGlobal > 0 && globalSpirals >= this.maxGlobal) {
+            return "The server already runs " + globalSpirals + " spirals (max " + this.maxGlobal + ")";
+        }
+        if (this.maxDisplays > 0 && displays + requestedDisplays > this.maxDisplays) {
+            return "Not enough display capacity (" + displays + " + " + requestedDisplays + " > " + this.maxDisplays + ")";
+        }
+        return null;
+    }
+
+    // Null when the queue is full
+    @Nullable
+    Request enqueue(@NotNull final Location center, @NotNull final SpiralPreset preset, @Nullable final UUID owner,
+                    final boolean playerSpiral, final int priority) {
+        if (this.queue.size() >= this.queueSize) return null;
+
+        final Request request = new Request(center.clone(), preset, owner, playerSpiral, priority, this.sequence++,
+            new CompletableFuture<>());
+        this.queue.add(request);
+        this.queued++;
+        return request;
+    }
+
+    @Nullable
+    Request peek() {
+        return this.queue.peek();
+    }
+
+    void poll() {
+        this.queue.poll();
+    }
+
+    void remove(@NotNull final Request request) {
+        this.queue.remove(request);
+    }
+
+    public int getQueueLength() {
+        return this.queue.size();
+    }
+
+    // Removes and returns every queued request
+    @NotNull
+    List<Request> clearQueue() {
+        final List<Request> dropped = new ArrayList<>();
+        this.queue.drainTo(dropped);
+        return dropped;
+    }
+
+    void recordAdmitted() {
+        this.admitted++;
+    }
+
+    void recordRejected() {
+        this.rejected++;
+    }
+
+    void recordEvicted(final int count) {
+        this.evicted += count;
+    }
+}
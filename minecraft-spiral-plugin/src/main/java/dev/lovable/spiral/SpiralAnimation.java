@@ -5,7 +5,6 @@ import lombok.RequiredArgsConstructor;
 import org.bukkit.*;
 import org.bukkit.block.data.BlockData;
 import org.bukkit.entity.BlockDisplay;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.util.Transformation;
 import org.bukkit.util.Vector;
 import org.jetbrains.annotations.NotNull;
@@ -14,7 +13,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @RequiredArgsConstructor
-public final class SpiralAnimation {
+public final class SpiralAnimation implements SpiralTickable {
 
     private static final int INTERPOLATION_TICKS = 2; // small smoothing window
     private static final int TURNS = 3; // number of helix turns for layout
@@ -30,9 +29,11 @@ public final class SpiralAnimation {
     private final int particleDensity;
 
     private final List<BlockDisplay> displays = new ArrayList<>();
-    private BukkitRunnable task;
     private double phase = 0.0;
 
+    @Getter
+    @NotNull private final SpiralMetrics metrics = new SpiralMetrics(SpiralPlugin.getInstance().getTickEngine().getMetrics());
+
     public void start() {
         if (this.running) return;
         if (this.center.getWorld() == null) return;
@@ -63,26 +64,14 @@ public final class SpiralAnimation {
             this.displays.add(display);
         }
 
-        // Start tick task
-        this.task = new BukkitRunnable() {
-            @Override
-            public void run() {
-                tick();
-            }
-        };
-        this.task.runTaskTimer(SpiralPlugin.getInstance(), 1L, 1L);
         this.running = true;
+        SpiralPlugin.getInstance().getTickEngine().register(this);
     }
 
     public void stop() {
         if (!this.running) return;
         this.running = false;
-        if (this.task != null) {
-            try {
-                this.task.cancel();
-            } catch (final Exception ignored) {}
-            this.task = null;
-        }
+        SpiralPlugin.getInstance().getTickEngine().unregister(this);
         for (final BlockDisplay display : this.displays) {
             try {
                 display.remove();
@@ -91,17 +80,23 @@ public final class SpiralAnimation {
         this.displays.clear();
     }
 
-    private void tick() {
+    @Override
+    public void tick(final int elapsedTicks, final boolean cosmetic) {
         if (this.center.getWorld() == null) {
             this.stop();
             return;
         }
         final World world = this.center.getWorld();
 
-        this.phase += this.speed; // advance the spiral
+        this.phase += this.speed * elapsedTicks; // advance the spiral
+        final int interpolationTicks = Math.max(INTERPOLATION_TICKS, elapsedTicks);
         final int segments = this.displays.size();
         if (segments == 0) return;
 
+        final SpiralParticleBatcher batcher = SpiralPlugin.getInstance().getTickEngine().getParticleBatcher();
+        final int source = cosmetic ? batcher.beginSource() : -1;
+        int particles = 0;
+
         for (int i = 0; i < segments; i++) {
             final double t = (double) i / (double) segments; // 0..1
             final double angle = t * (Math.PI * 2.0 * TURNS) + this.phase;
@@ -114,16 +109,19 @@ public final class SpiralAnimation {
 
             try {
                 // Interpolated movement for smooth visuals
-                display.setInterpolationDuration(INTERPOLATION_TICKS);
+                display.setInterpolationDuration(interpolationTicks);
                 display.teleport(newLocation);
             } catch (final Exception ex) {
                 // If teleport fails, skip this display this tick
             }
 
             // Particles along the path (density-thinned to avoid spam)
-            if (i % Math.max(1, (int) Math.ceil(segments / 20.0)) == 0) {
-                world.spawnParticle(Particle.END_ROD, newLocation, 1, 0.0, 0.0, 0.0, 0.0);
+            if (cosmetic && i % Math.max(1, (int) Math.ceil(segments / 20.0)) == 0) {
+                batcher.emit(source, world, Particle.END_ROD, x, y, z, 1, 0.0, 0.0, 0.0, 0.0);
+                particles++;
             }
         }
+
+        this.metrics.recordWork(segments, particles, world.getPlayerCount());
     }
 }
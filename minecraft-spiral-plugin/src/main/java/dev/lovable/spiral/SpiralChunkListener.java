@@ -0,0 +1,34 @@
+package dev.lovable.spiral;
+
+import org.bukkit.Chunk;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+import org.jetbrains.annotations.NotNull;
+
+// Hibernates spirals whose center chunk unloads and wakes them when it loads again
+public final class SpiralChunkListener implements Listener {
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkUnload(@NotNull final ChunkUnloadEvent event) {
+        final Chunk chunk = event.getChunk();
+        for (final AdvancedSpiralAnimation spiral : SpiralPlugin.getInstance().getAdvancedSpiralManager()
+            .getSpiralsInChunk(chunk.getWorld(), chunk.getX(), chunk.getZ())) {
+            spiral.hibernate();
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkLoad(@NotNull final ChunkLoadEvent event) {
+        final Chunk chunk = event.getChunk();
+        for (final AdvancedSpiralAnimation spiral : SpiralPlugin.getInstance().getAdvancedSpiralManager()
+            .getSpiralsInChunk(chunk.getWorld(), chunk.getX(), chunk.getZ())) {
+            if (spiral.isHibernating()) {
+                // Spawn on the next tick rather than while the chunk is still being loaded
+                SpiralPlugin.getInstance().getServer().getScheduler().runTask(SpiralPlugin.getInstance(), spiral::wake);
+            }
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package dev.lovable.spiral;
+
+import lombok.Getter;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.entity.BlockDisplay;
+import org.bukkit.entity.Display;
+import org.bukkit.util.Transformation;
+import org.jetbrains.annotations.NotNull;
+import org.joml.Quaternionf;
+import org.joml.Vector3f;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+// Per-world pool of BlockDisplays released by stopped spirals. Released displays are hidden from every player
+// and kept where they are; a later start teleports and reconfigures them instead of spawning new entities, so
+// toggling spirals does not churn entity ids and tracker registration. The first checkout in a world also
+// fills that world's pool up to min-size at the spiral's location, spread over ticks by the spawn scheduler,
+// so later starts find displays waiting. Displays idle for longer than idle-trim-ticks are removed down to
+// min-size. Main thread only.
+public final class SpiralDisplayPool implements SpiralTickable {
+
+    private static final int TRIM_INTERVAL_TICKS = 100;
+
+    private record Idle(@NotNull BlockDisplay display, long releasedAtTick) {}
+
+    // Most recently released first, so the oldest displays are trimmed from the tail
+    private final Map<UUID, ArrayDeque<Idle>> idle = new HashMap<>();
+    // Worlds whose pool is being filled up to min-size, and where; each world is filled once
+    private final Map<UUID, Location> prewarming = new LinkedHashMap<>();
+    private final Set<UUID> prewarmedWorlds = new HashSet<>();
+
+    private final boolean enabled;
+    private final int minSize;
+    private final int maxSize;
+    private final long idleTrimTicks;
+
+    // Transformation copies its arguments, so these can be shared by every reset
+    private final Vector3f zeroTranslation = new Vector3f();
+    private final Vector3f unitScale = new Vector3f(1.0f, 1.0f, 1.0f);
+    private final Quaternionf identityRotation = new Quaternionf();
+
+    @Getter private long hits = 0L;
+    @Getter private long misses = 0L;
+    @Getter private long trimmed = 0L;
+    @Getter private long prewarmed = 0L;
+
+    public SpiralDisplayPool() {
+        this.enabled = SpiralPlugin.getInstance().getConfig().getBoolean("display-pool.enabled", true);
+        this.minSize = Math.max(0, SpiralPlugin.getInstance().getConfig().getInt("display-pool.min-size", 0));
+        this.maxSize = Math.max(this.minSize, SpiralPlugin.getInstance().getConfig().getInt("display-pool.max-size", 1000));
+        this.idleTrimTicks = Math.max(0L, SpiralPlugin.getInstance().getConfig().getLong("display-pool.idle-trim-ticks", 1200L));
+    }
+
+    // A visible display at the location, configured for the preset: a pooled one when available, else a new one
+    @NotNull
+    public BlockDisplay checkout(@NotNull final World world, @NotNull final Location location,
+                                 @NotNull final BlockData blockData, @NotNull final SpiralPreset preset) {
+        if (this.enabled && this.minSize > 0 && this.prewarmedWorlds.add(world.getUID())) {
+            this.prewarming.put(world.getUID(), location.clone());
+        }
+
+        final ArrayDeque<Idle> pooled = this.idle.get(world.getUID());
+        while (pooled != null && !pooled.isEmpty()) {
+            final BlockDisplay display = pooled.pollFirst().display();
+            // Non-persistent displays are discarded with their chunk, so a pooled one may be gone
+            if (!display.isValid() || !display.teleport(location)) {
+                display.remove();
+                continue;
+            }
+
+            try {
+                this.configure(display, blockData, preset);
+                display.setViewRange(1.0f);
+                display.setVisibleByDefault(true);
+                this.hits++;
+                return display;
+            } catch (final Exception ex) {
+                SpiralPlugin.getInstance().getLogger().warning("Failed to reuse BlockDisplay: " + ex.getMessage());
+                display.remove();
+            }
+        }
+
+        this.misses++;
+        return world.spawn(location, BlockDisplay.class, spawned -> {
+            try {
+                // Purely cosmetic: never written to the chunk on save
+                spawned.setPersistent(false);
+                this.configure(spawned, blockData, preset);
+            } catch (final Exception ex) {
+                SpiralPlugin.getInstance().getLogger().warning("Failed to configure BlockDisplay: " + ex.getMessage());
+            }
+        });
+    }
+
+    // Hides the display and keeps it for reuse, or removes it when pooling is off or the pool is full
+    public void release(@NotNull final BlockDisplay display) {
+        final ArrayDeque<Idle> pooled = this.enabled && display.isValid()
+            ? this.idle.computeIfAbsent(display.getWorld().getUID(), key -> new ArrayDeque<>()) : null;
+        if (pooled == null || pooled.size() >= this.maxSize) {
+            display.remove();
+            return;
+        }
+
+        try {
+            display.setVisibleByDefault(false);
+            pooled.addFirst(new Idle(display, SpiralPlugin.getInstance().getTickEngine().getCurrentTick()));
+        } catch (final Exception ex) {
+            display.remove();
+        }
+    }
+
+    public int getIdleCount() {
+        int count = 0;
+        for (final ArrayDeque<Idle> pooled : this.idle.values()) {
+            count += pooled.size();
+        }
+        return count;
+    }
+
+    // Spawns up to budget hidden displays for the worlds still being filled up to min-size; returns how many.
+    // Called by the spawn scheduler with the spawn quota the spirals left over this tick.
+    int prewarm(final int budget) {
+        int spawned = 0;
+        final long now = SpiralPlugin.getInstance().getTickEngine().getCurrentTick();
+        final Iterator<Map.Entry<UUID, Location>> worlds = this.prewarming.entrySet().iterator();
+        while (worlds.hasNext() && spawned < budget) {
+            final Map.Entry<UUID, Location> entry = worlds.next();
+            final World world = Bukkit.getWorld(entry.getKey());
+            if (world == null) {
+                worlds.remove();
+                continue;
+            }
+
+            // Non-persistent displays are discarded with their chunk, so wait until it is loaded again
+            final Location location = entry.getValue();
+            if (!world.isChunkLoaded(location.getBlockX() >> 4, location.getBlockZ() >> 4)) continue;
+
+            final ArrayDeque<Idle> pooled = this.idle.computeIfAbsent(entry.getKey(), key -> new ArrayDeque<>());
+            while (pooled.size() < this.minSize && spawned < budget) {
+                try {
+                    pooled.addLast(new Idle(world.spawn(location, BlockDisplay.class, display -> {
+                        display.setPersistent(false);
+                        display.setVisibleByDefault(false);
+                    }), now));
+                } catch (final Exception ex) {
+                    SpiralPlugin.getInstance().getLogger().warning("Failed to prewarm BlockDisplay: " + ex.getMessage());
+                    worlds.remove();
+                    break;
+                }
+                spawned++;
+            }
+            if (pooled.size() >= this.minSize) {
+                worlds.remove();
+            }
+        }
+        this.prewarmed += spawned;
+        return spawned;
+    }
+
+    public boolean isPrewarming() {
+        return !this.prewarming.isEmpty();
+    }
+
+    // Removes every pooled display (plugin disable)
+    public void clear() {
+        for (final ArrayDeque<Idle> pooled : this.idle.values()) {
+            for (final Idle entry : pooled) {
+                entry.display().remove();
+            }
+        }
+        this.idle.clear();
+        this.prewarming.clear();
+        this.prewarmedWorlds.clear();
+    }
+
+    @Override
+    public int getTickDivisor() {
+        return TRIM_INTERVAL_TICKS;
+    }
+
+    @Override
+    public boolean isEssential() {
+        return true;
+    }
+
+    @Override
+    public void tick(final int elapsedTicks, final boolean cosmetic) {
+        final long now = SpiralPlugin.getInstance().getTickEngine().getCurrentTick();
+        final Iterator<ArrayDeque<Idle>> worlds = this.idle.values().iterator();
+        while (worlds.hasNext()) {
+            final ArrayDeque<Idle> pooled = worlds.next();
+            pooled.removeIf(entry -> !entry.display().isValid());
+
+            while (pooled.size() > this.minSize && now - pooled.peekLast().releasedAtTick() >= this.idleTrimTicks) {
+                pooled.pollLast().display().remove();
+                this.trimmed++;
+            }
+            if (pooled.isEmpty()) {
+                worlds.remove();
+            }
+        }
+    }
+
+    private void configure(@NotNull final BlockDisplay display, @NotNull final BlockData blockData,
+                           @NotNull final SpiralPreset preset) {
+        display.setBlock(blockData);
+        display.setInterpolationDelay(0);
+        display.setInterpolationDuration(preset.getInterpolationTicks());
+        display.setTeleportDuration(0);
+        display.setBrightness(preset.isGlowEffect() ? new Display.Brightness(15, 15) : null);
+        display.setTransformation(new Transformation(
+            this.zeroTranslation, this.identityRotation, this.unitScale, this.identityRotation));
+    }
+}
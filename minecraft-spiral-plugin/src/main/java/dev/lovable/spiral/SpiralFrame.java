@@ -0,0 +1,96 @@
+package dev.lovable.spiral;
+
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+
+// Back buffer of one animation: segment offsets for a predicted global phase, filled by a worker thread.
+// The volatile status publishes the arrays to the main thread, which swaps them with SpiralSegmentState.
+public final class SpiralFrame {
+
+    private static final int IDLE = 0;
+    private static final int QUEUED = 1;
+    private static final int READY = 2;
+
+    // Floating point drift between the predicted and the accumulated phase
+    private static final double PHASE_EPSILON = 1.0e-9;
+
+    @Getter @NotNull private final SpiralTrajectory trajectory;
+
+    float[] x;
+    float[] y;
+    float[] z;
+
+    private double phase;
+    private volatile int status = IDLE;
+
+    public SpiralFrame(@NotNull final SpiralTrajectory trajectory) {
+        this.trajectory = trajectory;
+        this.x = new float[trajectory.getSize()];
+        this.y = new float[trajectory.getSize()];
+        this.z = new float[trajectory.getSize()];
+    }
+
+    // Main thread, before the frame is handed to a worker
+    void request(final double phase) {
+        this.phase = phase;
+        this.status = QUEUED;
+    }
+
+    // Worker thread
+    void compute() {
+        try {
+            this.trajectory.sample(this.phase, this.x, this.y, this.z);
+            this.status = READY;
+        } catch (final RuntimeException ex) {
+            this.status = IDLE;
+            throw ex;
+        }
+    }
+
+    // Worker threads, for splitting one frame; markReady() publishes once every range is done
+    void computeRange(final int from, final int to) {
+        this.trajectory.sample(this.phase, this.x, this.y, this.z, from, to);
+    }
+
+    void markReady() {
+        this.status = READY;
+    }
+
+    int size() {
+        return this.x.length;
+    }
+
+    void cancel() {
+        this.status = IDLE;
+    }
+
+    // Still being computed: the arrays belong to the worker and must not be touched
+    boolean isBusy() {
+        return this.status == QUEUED;
+    }
+
+    boolean matches(final double phase) {
+        return this.status == READY && Math.abs(this.phase - phase) <= PHASE_EPSILON;
+    }
+
+    // Makes the precomputed offsets the current ones; the old arrays become the next back buffer
+    void swapInto(@NotNull final SpiralSegmentState state) {
+        final float[] previousX = state.x;
+        final float[] previousY = state.y;
+        final float[] previousZ = state.z;
+        state.x = this.x;
+        state.y = this.y;
+        state.z = this.z;
+        this.x = previousX;
+        this.y = previousY;
+        this.z = previousZ;
+        this.status = IDLE;
+    }
+
+    // A finished frame for the wrong phase (LOD change, deferred update, ...) is simply dropped
+    void discard() {
+        if (this.status == READY) {
+            this.status = IDLE;
+        }
+    }
+}
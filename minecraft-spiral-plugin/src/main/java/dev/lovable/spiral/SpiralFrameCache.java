@@ -0,0 +1,253 @@
+package dev.lovable.spiral;
+
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Every SpiralType is periodic in the global phase, so one full period of a trajectory is precomputed into a
+// compact buffer and replayed instead of evaluating the formulas for every frame. Offsets are quantized to
+// shorts per axis and interpolated linearly between frames-per-cycle frames. Trajectories are shared per
+// shape, so all spirals with the same shape replay the same cycle, each offset by its own center. Cycles are
+// keyed by shape rather than by trajectory object, so a table SpiralTrajectory.of dropped and built again gets
+// the existing cycle. They are built off the main thread and evicted least recently used once max-megabytes is
+// exceeded; use is recorded by the main thread once per tick, never by the workers sampling the cycle.
+public final class SpiralFrameCache {
+
+    // One period of a trajectory: frame-major, then axis, then segment index
+    static final class Cycle {
+
+        private final int frames;
+        private final int size;
+        private final double period;
+        private final short[] data;
+        private final float scaleX;
+        private final float scaleY;
+        private final float scaleZ;
+        // Engine tick of the last update that used this cycle; stored only when it changes, so at most once per tick
+        private volatile long lastUsedTick;
+
+        private Cycle(final int frames, final int size, final double period, @NotNull final short[] data,
+                      final float scaleX, final float scaleY, final float scaleZ) {
+            this.frames = frames;
+            this.size = size;
+            this.period = period;
+            this.data = data;
+            this.scaleX = scaleX;
+            this.scaleY = scaleY;
+            this.scaleZ = scaleZ;
+        }
+
+        @NotNull
+        static Cycle build(@NotNull final SpiralTrajectory trajectory, final double period, final int frames) {
+            final int size = trajectory.getSize();
+            final float[] values = new float[frames * 3 * size];
+            final float[] x = new float[size];
+            final float[] y = new float[size];
+            final float[] z = new float[size];
+            float maxX = 0.0f;
+            float maxY = 0.0f;
+            float maxZ = 0.0f;
+
+            for (int frame = 0; frame < frames; frame++) {
+                trajectory.compute(period * frame / frames, x, y, z, 0, size);
+                final int base = frame * 3 * size;
+                for (int i = 0; i < size; i++) {
+                    values[base + i] = x[i];
+                    values[base + size + i] = y[i];
+                    values[base + 2 * size + i] = z[i];
+                    maxX = Math.max(maxX, Math.abs(x[i]));
+                    maxY = Math.max(maxY, Math.abs(y[i]));
+                    maxZ = Math.max(maxZ, Math.abs(z[i]));
+                }
+            }
+
+            final float scaleX = maxX > 0.0f ? maxX / Short.MAX_VALUE : 1.0f;
+            final float scaleY = maxY > 0.0f ? maxY / Short.MAX_VALUE : 1.0f;
+            final float scaleZ = maxZ > 0.0f ? maxZ / Short.MAX_VALUE : 1.0f;
+            final short[] data = new short[values.length];
+            for (int frame = 0; frame < frames; frame++) {
+                final int base = frame * 3 * size;
+                for (int i = 0; i < size; i++) {
+                    data[base + i] = (short) Math.round(values[base + i] / scaleX);
+                    data[base + size + i] = (short) Math.round(values[base + size + i] / scaleY);
+                    data[base + 2 * size + i] = (short) Math.round(values[base + 2 * size + i] / scaleZ);
+                }
+            }
+            return new Cycle(frames, size, period, data, scaleX, scaleY, scaleZ);
+        }
+
+        long bytes() {
+            return this.data.length * 2L;
+        }
+
+        void markUsed(final long tick) {
+            if (this.lastUsedTick != tick) {
+                this.lastUsedTick = tick;
+            }
+        }
+
+        // Any thread
+        void sample(final double globalPhase, @NotNull final float[] x, @NotNull final float[] y, @NotNull final float[] z,
+                    final int from, final int to) {
+            double position = (globalPhase % this.period) / this.period;
+            if (position < 0.0) position += 1.0;
+            position *= this.frames;
+            int frame = (int) position;
+            if (frame >= this.frames) frame = 0;
+            final float t = (float) (position - frame);
+            final int next = frame + 1 == this.frames ? 0 : frame + 1;
+
+            final int size = this.size;
+            final int a = frame * 3 * size;
+            final int b = next * 3 * size;
+            final short[] data = this.data;
+            for (int i = from; i < to; i++) {
+                final float ax = data[a + i];
+                final float ay = data[a + size + i];
+                final float az = data[a + 2 * size + i];
+                x[i] = (ax + (data[b + i] - ax) * t) * this.scaleX;
+                y[i] = (ay + (data[b + size + i] - ay) * t) * this.scaleY;
+                z[i] = (az + (data[b + 2 * size + i] - az) * t) * this.scaleZ;
+            }
+        }
+    }
+
+    // A cached cycle and every trajectory object of its shape it is installed on
+    private static final class Slot {
+        @NotNull private final Cycle cycle;
+        @NotNull private final List<SpiralTrajectory> trajectories;
+
+        private Slot(@NotNull final Cycle cycle, @NotNull final List<SpiralTrajectory> trajectories) {
+            this.cycle = cycle;
+            this.trajectories = trajectories;
+        }
+    }
+
+    private final boolean enabled;
+    private final boolean async;
+    private final int framesPerCycle;
+    private final long maxBytes;
+
+    // Guarded by this; building holds the trajectories waiting for a cycle that is being built
+    private final Map<SpiralTrajectory.Key, Slot> cycles = new HashMap<>();
+    private final Map<SpiralTrajectory.Key, List<SpiralTrajectory>> building = new HashMap<>();
+    private long bytes = 0L;
+    private boolean closed = false;
+
+    @Getter private volatile long evictions = 0L;
+
+    public SpiralFrameCache(final boolean async) {
+        this.enabled = SpiralPlugin.getInstance().getConfig().getBoolean("frame-cache.enabled", true);
+        this.async = async;
+        this.framesPerCycle = Math.max(8, SpiralPlugin.getInstance().getConfig().getInt("frame-cache.frames-per-cycle", 256));
+        this.maxBytes = (long) (Math.max(0.0, SpiralPlugin.getInstance().getConfig().getDouble("frame-cache.max-megabytes", 32.0)) * 1024 * 1024);
+    }
+
+    // Makes sure one period of the trajectory is cached or being built; until it is installed the trajectory
+    // keeps evaluating its formulas. Called when a spiral activates.
+    public void attach(@NotNull final SpiralTrajectory trajectory) {
+        if (!this.enabled) return;
+
+        final double period = trajectory.getPeriod();
+        if (Double.isNaN(period)) return;
+
+        final long cycleBytes = (long) this.framesPerCycle * 3L * trajectory.getSize() * 2L;
+        synchronized (this) {
+            if (this.closed || cycleBytes > this.maxBytes) return;
+
+            final Slot slot = this.cycles.get(trajectory.key);
+            if (slot != null) {
+                if (trajectory.cycle == null) {
+                    slot.trajectories.add(trajectory);
+                    trajectory.cycle = slot.cycle;
+                }
+                return;
+            }
+
+            final List<SpiralTrajectory> waiting = this.building.get(trajectory.key);
+            if (waiting != null) {
+                if (!waiting.contains(trajectory)) waiting.add(trajectory);
+                return;
+            }
+            this.building.put(trajectory.key, new ArrayList<>(List.of(trajectory)));
+        }
+
+        if (this.async) {
+            Thread.ofVirtual().name("spiral-frame-cache").start(() -> this.build(trajectory, period));
+        } else {
+            this.build(trajectory, period);
+        }
+    }
+
+    public synchronized int getCycleCount() {
+        return this.cycles.size();
+    }
+
+    public synchronized long getBytes() {
+        return this.bytes;
+    }
+
+    // Drops every cycle; trajectories go back to evaluating their formulas (pipeline shutdown)
+    public synchronized void clear() {
+        this.closed = true;
+        for (final Slot slot : this.cycles.values()) {
+            for (final SpiralTrajectory trajectory : slot.trajectories) {
+                trajectory.cycle = null;
+            }
+        }
+        this.cycles.clear();
+        this.building.clear();
+        this.bytes = 0L;
+    }
+
+    private void build(@NotNull final SpiralTrajectory trajectory, final double period) {
+        Cycle cycle = null;
+        try {
+            cycle = Cycle.build(trajectory, period, this.framesPerCycle);
+        } catch (final RuntimeException ex) {
+            SpiralPlugin.getInstance().getLogger().warning("Failed to precompute spiral frames: " + ex.getMessage());
+        }
+        this.install(trajectory, cycle);
+    }
+
+    private synchronized void install(@NotNull final SpiralTrajectory trajectory, @Nullable final Cycle cycle) {
+        final List<SpiralTrajectory> waiting = this.building.remove(trajectory.key);
+        if (cycle == null || waiting == null || this.closed) return;
+
+        while (this.bytes + cycle.bytes() > this.maxBytes && !this.cycles.isEmpty()) {
+            this.evictLeastRecentlyUsed();
+        }
+        // Counts as used now, so a cycle installed before its first update is not the next one evicted
+        cycle.markUsed(SpiralPlugin.getInstance().getTickEngine().getCurrentTick());
+        this.cycles.put(trajectory.key, new Slot(cycle, waiting));
+        this.bytes += cycle.bytes();
+        for (final SpiralTrajectory user : waiting) {
+            user.cycle = cycle;
+        }
+    }
+
+    private void evictLeastRecentlyUsed() {
+        SpiralTrajectory.Key victim = null;
+        long oldest = Long.MAX_VALUE;
+        for (final Map.Entry<SpiralTrajectory.Key, Slot> entry : this.cycles.entrySet()) {
+            if (entry.getValue().cycle.lastUsedTick < oldest) {
+                oldest = entry.getValue().cycle.lastUsedTick;
+                victim = entry.getKey();
+            }
+        }
+        if (victim == null) return;
+
+        // Spirals still using it fall back to evaluating the formulas
+        final Slot slot = this.cycles.remove(victim);
+        for (final SpiralTrajectory trajectory : slot.trajectories) {
+            trajectory.cycle = null;
+        }
+        this.bytes -= slot.cycle.bytes();
+        this.evictions++;
+    }
+}
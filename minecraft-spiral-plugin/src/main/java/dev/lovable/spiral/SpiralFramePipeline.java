@@ -0,0 +1,224 @@
+package dev.lovable.spiral;
+
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RejectedExecutionException;
+
+// Two-phase frame pipeline: after applying frame N a spiral schedules frame N+1 for its predicted phase,
+// the engine hands all scheduled frames to a worker at the end of the tick, and the next update swaps the
+// finished frame in. A frame that is not ready or was computed for another phase is sampled synchronously.
+// With compute-parallelism > 1 large batches are split between spirals, and large spirals into index ranges,
+// on a fork-join pool; batches below parallel-threshold-segments still run as a single task.
+public final class SpiralFramePipeline {
+
+    private final boolean enabled;
+    private final int threshold;
+    @Nullable private final ExecutorService executor;
+    @Nullable private final ForkJoinPool forkJoinPool;
+    private final List<SpiralFrame> scheduled = new ArrayList<>();
+    @Getter @NotNull private final SpiralFrameCache frameCache;
+
+    // Main thread only
+    @Getter private long precomputedFrames = 0L;
+    @Getter private long synchronousFrames = 0L;
+
+    public SpiralFramePipeline() {
+        this.enabled = SpiralPlugin.getInstance().getConfig().getBoolean("async-compute", true);
+        final int threads = SpiralPlugin.getInstance().getConfig().getInt("async-compute-threads", 0);
+        final int parallelism = SpiralPlugin.getInstance().getConfig().getInt("compute-parallelism", 1);
+        this.threshold = Math.max(1, SpiralPlugin.getInstance().getConfig().getInt("parallel-threshold-segments", 2048));
+
+        this.forkJoinPool = this.enabled && parallelism > 1
+            ? new ForkJoinPool(Math.min(parallelism, Runtime.getRuntime().availableProcessors()),
+                SpiralFramePipeline::newWorker, null, false)
+            : null;
+
+        if (!this.enabled || this.forkJoinPool != null) {
+            this.executor = null;
+        } else if (threads <= 0) {
+            this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("spiral-compute-", 0).factory());
+        } else {
+            this.executor = Executors.newFixedThreadPool(threads,
+                Thread.ofPlatform().daemon().name("spiral-compute-", 0).factory());
+        }
+
+        // Cycles are built on a background thread unless async computing is turned off
+        this.frameCache = new SpiralFrameCache(this.enabled);
+    }
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    public int getParallelism() {
+        return this.forkJoinPool != null ? this.forkJoinPool.getParallelism() : 1;
+    }
+
+    // Writes the offsets for phase into state, from the precomputed frame when it matches
+    public void acquire(@Nullable final SpiralFrame frame, @NotNull final SpiralTrajectory trajectory,
+                        final double phase, @NotNull final SpiralSegmentState state) {
+        // Main thread, once per update: cheaper than having every worker that samples the cycle stamp it
+        final SpiralFrameCache.Cycle cycle = trajectory.cycle;
+        if (cycle != null) {
+            cycle.markUsed(SpiralPlugin.getInstance().getTickEngine().getCurrentTick());
+        }
+
+        if (frame != null && frame.matches(phase)) {
+            frame.swapInto(state);
+            this.precomputedFrames++;
+            return;
+        }
+
+        if (frame != null) {
+            frame.discard();
+        }
+        trajectory.sample(phase, state.x, state.y, state.z);
+        if (this.enabled) {
+            this.synchronousFrames++;
+        }
+    }
+
+    public void schedule(@Nullable final SpiralFrame frame, final double phase) {
+        if (!this.enabled || frame == null || frame.isBusy()) return;
+
+        frame.request(phase);
+        this.scheduled.add(frame);
+    }
+
+    // Called by the tick engine once all spirals were updated, so computing overlaps with the next tick
+    public void dispatch() {
+        if (this.scheduled.isEmpty()) return;
+
+        final SpiralFrame[] batch = this.scheduled.toArray(new SpiralFrame[0]);
+        this.scheduled.clear();
+
+        try {
+            if (this.forkJoinPool != null) {
+                this.forkJoinPool.execute(new BatchTask(batch, 0, batch.length));
+            } else if (this.executor != null) {
+                this.executor.execute(() -> computeAll(batch));
+            }
+        } catch (final RejectedExecutionException ex) {
+            for (final SpiralFrame frame : batch) {
+                frame.cancel();
+            }
+        }
+    }
+
+    public void shutdown() {
+        for (final SpiralFrame frame : this.scheduled) {
+            frame.cancel();
+        }
+        this.scheduled.clear();
+
+        this.frameCache.clear();
+        if (this.executor != null) {
+            this.executor.shutdownNow();
+        }
+        if (this.forkJoinPool != null) {
+            this.forkJoinPool.shutdownNow();
+        }
+    }
+
+    private static void computeAll(@NotNull final SpiralFrame[] batch) {
+        for (final SpiralFrame frame : batch) {
+            try {
+                frame.compute();
+            } catch (final Exception ex) {
+                // The frame falls back to synchronous sampling on the main thread
+            }
+        }
+    }
+
+    @NotNull
+    private static ForkJoinWorkerThread newWorker(@NotNull final ForkJoinPool pool) {
+        final ForkJoinWorkerThread worker = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        worker.setName("spiral-compute-" + worker.getPoolIndex());
+        return worker;
+    }
+
+    // Splits a batch between spirals until a part holds no more than threshold segments
+    private final class BatchTask extends RecursiveAction {
+
+        @NotNull private final SpiralFrame[] batch;
+        private final int from;
+        private final int to;
+
+        private BatchTask(@NotNull final SpiralFrame[] batch, final int from, final int to) {
+            this.batch = batch;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from == 1) {
+                computeFrame(this.batch[this.from]);
+                return;
+            }
+
+            int segments = 0;
+            for (int i = this.from; i < this.to; i++) {
+                segments += this.batch[i].size();
+            }
+            if (segments <= threshold) {
+                for (int i = this.from; i < this.to; i++) {
+                    computeFrame(this.batch[i]);
+                }
+                return;
+            }
+
+            final int middle = (this.from + this.to) >>> 1;
+            invokeAll(new BatchTask(this.batch, this.from, middle), new BatchTask(this.batch, middle, this.to));
+        }
+
+        private void computeFrame(@NotNull final SpiralFrame frame) {
+            try {
+                if (frame.size() <= threshold) {
+                    frame.compute();
+                } else {
+                    new RangeTask(frame, 0, frame.size()).invoke();
+                    frame.markReady();
+                }
+            } catch (final Exception ex) {
+                // The frame falls back to synchronous sampling on the main thread
+                frame.cancel();
+            }
+        }
+    }
+
+    // Splits one large spiral (GALAXY, DNA with many segments) into contiguous index ranges. Ranges cover
+    // whole segment rows of every stream, which keeps each worker on adjacent memory.
+    private final class RangeTask extends RecursiveAction {
+
+        @NotNull private final SpiralFrame frame;
+        private final int from;
+        private final int to;
+
+        private RangeTask(@NotNull final SpiralFrame frame, final int from, final int to) {
+            this.frame = frame;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= threshold) {
+                this.frame.computeRange(this.from, this.to);
+                return;
+            }
+
+            final int middle = (this.from + this.to) >>> 1;
+            invokeAll(new RangeTask(this.frame, this.from, middle), new RangeTask(this.frame, middle, this.to));
+        }
+    }
+}
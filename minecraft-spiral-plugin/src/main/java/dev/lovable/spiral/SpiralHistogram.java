@@ -0,0 +1,104 @@
+package dev.lovable.spiral;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Fixed-size log-linear histogram of nanosecond samples: 8 buckets per power of two (12.5% resolution), everything above 2^40 ns
+// (about 18 minutes) in one overflow bucket. Written by the main thread only, readable from any thread;
+// recording is lock-free and allocation-free. Two generations of WINDOW samples are kept, so percentiles
+// roll over the most recent 1024 to 2048 samples. Separately, counts per power of two and the sum are kept
+// since creation and never reset, which is what a Prometheus histogram needs.
+public final class SpiralHistogram {
+
+    // Samples per octave (see octaveUpperBound) and their sum, since creation
+    public record Totals(@NotNull long[] counts, long sumNanos) {}
+
+    private static final int SUB_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final int MAX_EXPONENT = 40;
+    private static final int BUCKETS = (MAX_EXPONENT - SUB_BITS + 1) * SUB_BUCKETS + 1;
+    private static final int WINDOW = 1024;
+    // SUB_BUCKETS buckets each, the overflow bucket on its own
+    private static final int OCTAVES = (BUCKETS - 1) / SUB_BUCKETS + 1;
+
+    // Generation g uses counts[g * BUCKETS, (g + 1) * BUCKETS)
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS * 2);
+    private final AtomicLongArray totals = new AtomicLongArray(2);
+    private volatile int generation = 0;
+
+    private final AtomicLongArray octaveCounts = new AtomicLongArray(OCTAVES);
+    private final AtomicLong sumNanos = new AtomicLong();
+
+    public void record(final long nanos) {
+        int current = this.generation;
+        if (this.totals.get(current) >= WINDOW) {
+            // The older generation is recycled; the one just filled keeps contributing until it is recycled too
+            final int next = current ^ 1;
+            for (int bucket = 0; bucket < BUCKETS; bucket++) {
+                this.counts.set(next * BUCKETS + bucket, 0L);
+            }
+            this.totals.set(next, 0L);
+            this.generation = next;
+            current = next;
+        }
+
+        final int bucket = bucketOf(nanos);
+        this.counts.incrementAndGet(current * BUCKETS + bucket);
+        this.totals.incrementAndGet(current);
+        this.octaveCounts.incrementAndGet(bucket / SUB_BUCKETS);
+        this.sumNanos.addAndGet(Math.max(0L, nanos));
+    }
+
+    public long getCount() {
+        return this.totals.get(0) + this.totals.get(1);
+    }
+
+    @NotNull
+    public Totals totals() {
+        final long[] counts = new long[OCTAVES];
+        for (int octave = 0; octave < OCTAVES; octave++) {
+            counts[octave] = this.octaveCounts.get(octave);
+        }
+        return new Totals(counts, this.sumNanos.get());
+    }
+
+    // Largest sample counted in the given octave; Long.MAX_VALUE for the overflow octave
+    public static long octaveUpperBound(final int octave) {
+        return octave + 1 < OCTAVES ? upperBound((octave + 1) * SUB_BUCKETS - 1) : Long.MAX_VALUE;
+    }
+
+    // Upper bound of the bucket holding the given quantile (0..1); 0 without samples
+    public long percentile(final double quantile) {
+        final long total = this.getCount();
+        if (total == 0L) return 0L;
+
+        final long rank = Math.max(1L, (long) Math.ceil(quantile * total));
+        long seen = 0L;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += this.counts.get(bucket) + this.counts.get(BUCKETS + bucket);
+            if (seen >= rank) return upperBound(bucket);
+        }
+        return upperBound(BUCKETS - 1);
+    }
+
+    private static int bucketOf(final long value) {
+        if (value < SUB_BUCKETS) return (int) Math.max(0L, value);
+
+        final int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent >= MAX_EXPONENT) return BUCKETS - 1;
+        return (exponent - SUB_BITS + 1) * SUB_BUCKETS + (int) ((value >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1));
+    }
+
+    private static long lowerBound(final int bucket) {
+        if (bucket < SUB_BUCKETS) return bucket;
+
+        final int exponent = bucket / SUB_BUCKETS + SUB_BITS - 1;
+        return (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << (exponent - SUB_BITS);
+    }
+
+    private static long upperBound(final int bucket) {
+        return bucket + 1 < BUCKETS ? lowerBound(bucket + 1) - 1L : Long.MAX_VALUE;
+    }
+}
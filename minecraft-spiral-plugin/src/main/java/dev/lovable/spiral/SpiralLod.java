@@ -0,0 +1,17 @@
+package dev.lovable.spiral;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Getter
+public enum SpiralLod {
+    FULL(1, 1, true),
+    HALF_SEGMENTS(2, 1, true),
+    REDUCED_RATE(2, 2, true),
+    MINIMAL(2, 4, false);
+
+    private final int segmentStride; // every n-th segment row stays visible
+    private final int tickDivisor;   // multiplied with the preset's own divisor
+    private final boolean particles;
+}
@@ -0,0 +1,73 @@
+package dev.lovable.spiral;
+
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// Cost counters of one spiral, or of all spirals when used as the engine's global instance. Children forward
+// every sample to their parent, so the global histogram is the distribution of per-spiral tick times.
+public final class SpiralMetrics {
+
+    public record Snapshot(long ticks, long p50Nanos, long p95Nanos, long p99Nanos,
+                           long entityUpdates, long particles, long estimatedPackets, long suppressedUpdates) {
+
+        // Share of entity updates skipped because the segment had not moved or turned past the epsilons
+        public double suppressedRatio() {
+            final long total = this.entityUpdates + this.suppressedUpdates;
+            return total > 0L ? (double) this.suppressedUpdates / total : 0.0;
+        }
+    }
+
+    @Nullable private final SpiralMetrics parent;
+
+    @Getter @NotNull private final SpiralHistogram tickNanos = new SpiralHistogram();
+    private final AtomicLong ticks = new AtomicLong();
+    private final AtomicLong entityUpdates = new AtomicLong();
+    private final AtomicLong particles = new AtomicLong();
+    private final AtomicLong estimatedPackets = new AtomicLong();
+    private final AtomicLong suppressedUpdates = new AtomicLong();
+
+    public SpiralMetrics(@Nullable final SpiralMetrics parent) {
+        this.parent = parent;
+    }
+
+    // Main thread: called by the tick engine around every update
+    public void recordTick(final long nanos) {
+        this.tickNanos.record(nanos);
+        this.ticks.incrementAndGet();
+        if (this.parent != null) {
+            this.parent.recordTick(nanos);
+        }
+    }
+
+    // Main thread: work done by the spiral during one update; packets are updates and particles times viewers
+    public void recordWork(final int entityUpdates, final int particles, final int viewers) {
+        if (entityUpdates == 0 && particles == 0) return;
+
+        this.entityUpdates.addAndGet(entityUpdates);
+        this.particles.addAndGet(particles);
+        this.estimatedPackets.addAndGet((long) (entityUpdates + particles) * viewers);
+        if (this.parent != null) {
+            this.parent.recordWork(entityUpdates, particles, viewers);
+        }
+    }
+
+    // Main thread: updates skipped by delta suppression during one update
+    public void recordSuppressed(final int updates) {
+        if (updates == 0) return;
+
+        this.suppressedUpdates.addAndGet(updates);
+        if (this.parent != null) {
+            this.parent.recordSuppressed(updates);
+        }
+    }
+
+    @NotNull
+    public Snapshot snapshot() {
+        return new Snapshot(this.ticks.get(),
+            this.tickNanos.percentile(0.50), this.tickNanos.percentile(0.95), this.tickNanos.percentile(0.99),
+            this.entityUpdates.get(), this.particles.get(), this.estimatedPackets.get(), this.suppressedUpdates.get());
+    }
+}
@@ -0,0 +1,207 @@
+package dev.lovable.spiral;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+// Optional Prometheus text-format endpoint. The main thread publishes an immutable snapshot every
+// publish-interval-ticks; the HTTP thread only ever formats the latest snapshot and never touches Bukkit.
+public final class SpiralMetricsExporter implements SpiralTickable {
+
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    // Histogram buckets below this are not exported; they still count towards the higher ones, _sum and _count
+    private static final long MIN_BUCKET_NANOS = 1_000L;
+
+    private record Snapshot(long timestampMillis, int activeSpirals, int displayEntities,
+                            SpiralHistogram.Totals engineTicks, SpiralHistogram.Totals updates, long lastTickNanos,
+                            SpiralMetrics.Snapshot spirals,
+                            long particlesSent, long particlesMerged, long particlesDropped, double particlesPerSecond,
+                            long budgetOverruns, long deferredUpdates, long degradedUpdates,
+                            long poolHits, long poolMisses, long poolTrimmed, int poolIdle) {}
+
+    private final int publishTicks;
+    @Nullable private HttpServer server;
+    @Nullable private volatile Snapshot snapshot;
+
+    private long previousParticles = 0L;
+    private long previousNanos = 0L;
+
+    public SpiralMetricsExporter() {
+        this.publishTicks = Math.max(1, SpiralPlugin.getInstance().getConfig().getInt("metrics-exporter.publish-interval-ticks", 20));
+    }
+
+    public void start() {
+        final String host = SpiralPlugin.getInstance().getConfig().getString("metrics-exporter.host", "127.0.0.1");
+        final int port = SpiralPlugin.getInstance().getConfig().getInt("metrics-exporter.port", 9464);
+
+        try {
+            this.server = HttpServer.create(new InetSocketAddress(host, port), 0);
+            this.server.createContext("/metrics", this::handle);
+            this.server.start();
+        } catch (final IOException ex) {
+            SpiralPlugin.getInstance().getLogger().warning("Failed to start metrics exporter on " + host + ":" + port + ": " + ex.getMessage());
+            this.server = null;
+            return;
+        }
+
+        this.publish();
+        SpiralPlugin.getInstance().getTickEngine().register(this);
+        SpiralPlugin.getInstance().getLogger().info("Metrics exporter listening on http://" + host + ":" + port + "/metrics");
+    }
+
+    public void stop() {
+        SpiralPlugin.getInstance().getTickEngine().unregister(this);
+        if (this.server != null) {
+            this.server.stop(0);
+            this.server = null;
+        }
+    }
+
+    @Override
+    public int getTickDivisor() {
+        return this.publishTicks;
+    }
+
+    @Override
+    public boolean isEssential() {
+        return true;
+    }
+
+    @Override
+    public void tick(final int elapsedTicks, final boolean cosmetic) {
+        this.publish();
+    }
+
+    // Main thread
+    private void publish() {
+        final SpiralTickEngine engine = SpiralPlugin.getInstance().getTickEngine();
+        final SpiralParticleBatcher batcher = engine.getParticleBatcher();
+        final AdvancedSpiralManager manager = SpiralPlugin.getInstance().getAdvancedSpiralManager();
+
+        int displays = 0;
+        for (final AdvancedSpiralAnimation spiral : manager.getSpirals()) {
+            displays += spiral.getSegmentCount();
+        }
+
+        final long now = System.nanoTime();
+        final long particles = batcher.getSentParticles();
+        final double seconds = (now - this.previousNanos) / 1_000_000_000.0;
+        final double particlesPerSecond = this.previousNanos != 0L && seconds > 0.0
+            ? (particles - this.previousParticles) / seconds : 0.0;
+        this.previousParticles = particles;
+        this.previousNanos = now;
+
+        final SpiralDisplayPool pool = SpiralPlugin.getInstance().getDisplayPool();
+        this.snapshot = new Snapshot(System.currentTimeMillis(), manager.getActiveSpiralCount(), displays,
+            engine.getTickNanos().totals(), engine.getMetrics().getTickNanos().totals(),
+            engine.getLastTickNanos(), engine.getMetrics().snapshot(),
+            particles, batcher.getMergedParticles(), batcher.getDroppedParticles(), particlesPerSecond,
+            engine.getBudgetOverruns(), engine.getDeferredUpdates(), engine.getDegradedUpdates(),
+            pool.getHits(), pool.getMisses(), pool.getTrimmed(), pool.getIdleCount());
+    }
+
+    // HTTP thread
+    private void handle(@NotNull final HttpExchange exchange) throws IOException {
+        try {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+
+            final Snapshot current = this.snapshot;
+            final byte[] body = (current != null ? format(current) : "").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+            try (final OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    @NotNull
+    private static String format(@NotNull final Snapshot snapshot) {
+        final StringBuilder out = new StringBuilder(2048);
+        gauge(out, "spiral_active_spirals", "Running advanced spirals", snapshot.activeSpirals());
+        gauge(out, "spiral_display_entities", "Display segments of all active spirals", snapshot.displayEntities());
+
+        histogram(out, "spiral_engine_tick_seconds", "Duration of a whole spiral engine tick", snapshot.engineTicks());
+        gauge(out, "spiral_engine_last_tick_seconds", "Duration of the most recent spiral engine tick",
+            snapshot.lastTickNanos() / 1_000_000_000.0);
+        histogram(out, "spiral_update_seconds", "Duration of a single spiral update", snapshot.updates());
+
+        counter(out, "spiral_entity_updates_total", "Display moves, rotations and transformations", snapshot.spirals().entityUpdates());
+        counter(out, "spiral_suppressed_updates_total", "Display updates skipped because the change was below the epsilons",
+            snapshot.spirals().suppressedUpdates());
+        counter(out, "spiral_estimated_packets_total", "Estimated packets sent to viewers", snapshot.spirals().estimatedPackets());
+        counter(out, "spiral_particles_sent_total", "Particles sent after batching", snapshot.particlesSent());
+        counter(out, "spiral_particles_merged_total", "Particles merged into a co-located spawn", snapshot.particlesMerged());
+        counter(out, "spiral_particles_dropped_total", "Particles dropped by max-particles-per-tick", snapshot.particlesDropped());
+        gauge(out, "spiral_particles_per_second", "Particles sent per second since the previous snapshot", snapshot.particlesPerSecond());
+
+        counter(out, "spiral_budget_overruns_total", "Engine ticks that ran out of tick-budget-ms", snapshot.budgetOverruns());
+        counter(out, "spiral_deferred_updates_total", "Spiral updates deferred to a later tick", snapshot.deferredUpdates());
+        counter(out, "spiral_degraded_updates_total", "Spiral updates run without cosmetic work", snapshot.degradedUpdates());
+
+        counter(out, "spiral_display_pool_hits_total", "Displays reused from the pool", snapshot.poolHits());
+        counter(out, "spiral_display_pool_misses_total", "Displays spawned because the pool was empty", snapshot.poolMisses());
+        counter(out, "spiral_display_pool_trimmed_total", "Pooled displays removed after idle-trim-ticks", snapshot.poolTrimmed());
+        gauge(out, "spiral_display_pool_idle", "Hidden displays waiting in the pool", snapshot.poolIdle());
+        gauge(out, "spiral_snapshot_timestamp_seconds", "When the main thread published these values",
+            snapshot.timestampMillis() / 1000.0);
+        return out.toString();
+    }
+
+    private static void gauge(@NotNull final StringBuilder out, @NotNull final String name,
+                              @NotNull final String help, final double value) {
+        header(out, name, help, "gauge");
+        out.append(name).append(' ').append(number(value)).append('\n');
+    }
+
+    private static void counter(@NotNull final StringBuilder out, @NotNull final String name,
+                                @NotNull final String help, final long value) {
+        header(out, name, help, "counter");
+        out.append(name).append(' ').append(value).append('\n');
+    }
+
+    // Cumulative buckets at the histogram's power-of-two edges, in seconds
+    private static void histogram(@NotNull final StringBuilder out, @NotNull final String name,
+                                  @NotNull final String help, @NotNull final SpiralHistogram.Totals totals) {
+        header(out, name, help, "histogram");
+        final long[] counts = totals.counts();
+        long cumulative = 0L;
+        for (int octave = 0; octave < counts.length; octave++) {
+            cumulative += counts[octave];
+            final long upperNanos = SpiralHistogram.octaveUpperBound(octave);
+            if (upperNanos == Long.MAX_VALUE || upperNanos < MIN_BUCKET_NANOS) continue;
+
+            out.append(name).append("_bucket{le=\"").append(number(upperNanos / 1_000_000_000.0)).append("\"} ")
+                .append(cumulative).append('\n');
+        }
+        out.append(name).append("_bucket{le=\"+Inf\"} ").append(cumulative).append('\n');
+        out.append(name).append("_sum ").append(number(totals.sumNanos() / 1_000_000_000.0)).append('\n');
+        out.append(name).append("_count ").append(cumulative).append('\n');
+    }
+
+    private static void header(@NotNull final StringBuilder out, @NotNull final String name,
+                               @NotNull final String help, @NotNull final String type) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    @NotNull
+    private static String number(final double value) {
+        if (value == Math.rint(value) && Math.abs(value) < 1.0e15) {
+            return Long.toString((long) value);
+        }
+        return String.format(Locale.ROOT, "%.9g", value);
+    }
+}
@@ -0,0 +1,30 @@
+package dev.lovable.spiral;
+
+import org.bukkit.block.data.BlockData;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.UUID;
+
+// Transport for virtual displays. The plugin does not ship a protocol implementation; a bridge plugin
+// (ProtocolLib, PacketEvents, NMS, ...) registers one through SpiralPlugin#setPacketSender.
+public interface SpiralPacketSender {
+
+    void sendSpawn(@NotNull Player viewer, int entityId, @NotNull UUID uuid,
+                   double x, double y, double z,
+                   @NotNull BlockData blockData, boolean glow, int interpolationTicks);
+
+    void sendTeleport(@NotNull Player viewer, int entityId, double x, double y, double z, int interpolationTicks);
+
+    // Metadata update of the teleport duration: ticks over which the client glides to each new position (0-59)
+    void sendTeleportDuration(@NotNull Player viewer, int entityId, int ticks);
+
+    // Metadata update of the left rotation (about Y, radians)
+    void sendRotation(@NotNull Player viewer, int entityId, float angle, int interpolationTicks);
+
+    // Metadata update of translation + left rotation, with interpolation restarted (delay 0)
+    void sendTransformation(@NotNull Player viewer, int entityId,
+                            float offsetX, float offsetY, float offsetZ, float angle, int interpolationTicks);
+
+    void sendDestroy(@NotNull Player viewer, @NotNull int[] entityIds);
+}
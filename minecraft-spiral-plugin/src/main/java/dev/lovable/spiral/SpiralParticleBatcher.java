@@ -0,0 +1,219 @@
+package dev.lovable.spiral;
+
+import lombok.Getter;
+import org.bukkit.Location;
+import org.bukkit.Particle;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.List;
+
+// Collects particle requests from every spiral during a tick and flushes them once at the end of it:
+// co-located emissions are merged into count > 1 spawns, max-particles-per-tick is shared fairly between
+// spirals, and packets only go to players within particle-range.
+public final class SpiralParticleBatcher {
+
+    private static final double CELL_SIZE = 0.5;
+
+    private final int maxParticlesPerTick;
+    private final double rangeSquared;
+
+    // Requests of the current tick, structure-of-arrays, grown on demand and reused between ticks
+    private int size = 0;
+    private World[] worlds = new World[64];
+    private Particle[] particles = new Particle[64];
+    private double[] x = new double[64];
+    private double[] y = new double[64];
+    private double[] z = new double[64];
+    private int[] cellX = new int[64];
+    private int[] cellY = new int[64];
+    private int[] cellZ = new int[64];
+    private int[] counts = new int[64];
+    private double[] offsetX = new double[64];
+    private double[] offsetY = new double[64];
+    private double[] offsetZ = new double[64];
+    private double[] extra = new double[64];
+    private int[] sources = new int[64];
+
+    // Open-addressing index of request slots (slot + 1, 0 = empty) used to find co-located requests
+    private int[] table = new int[128];
+
+    private int sourceCount = 0;
+    private int[] sourceUsed = new int[16];
+
+    // Reused for every player position read while sending, so flushing does not allocate a Location per player
+    private final Location scratchLocation = new Location(null, 0.0, 0.0, 0.0);
+
+    @Getter private long requestedParticles = 0L;
+    @Getter private long sentParticles = 0L;
+    @Getter private long mergedParticles = 0L;
+    @Getter private long droppedParticles = 0L;
+
+    public SpiralParticleBatcher() {
+        final double range = SpiralPlugin.getInstance().getConfig().getDouble("particle-range", 32.0);
+        this.maxParticlesPerTick = SpiralPlugin.getInstance().getConfig().getInt("max-particles-per-tick", 50);
+        this.rangeSquared = range * range;
+    }
+
+    // Every spiral calls this once per tick before emitting; the returned id is used for fair sharing
+    public int beginSource() {
+        if (this.sourceCount == this.sourceUsed.length) {
+            this.sourceUsed = Arrays.copyOf(this.sourceUsed, this.sourceCount * 2);
+        }
+        this.sourceUsed[this.sourceCount] = 0;
+        return this.sourceCount++;
+    }
+
+    public void emit(final int source, @NotNull final World world, @NotNull final Particle particle,
+                     final double x, final double y, final double z, final int count,
+                     final double offsetX, final double offsetY, final double offsetZ, final double extra) {
+        this.requestedParticles += count;
+
+        final int cellX = (int) Math.floor(x / CELL_SIZE);
+        final int cellY = (int) Math.floor(y / CELL_SIZE);
+        final int cellZ = (int) Math.floor(z / CELL_SIZE);
+
+        final int mask = this.table.length - 1;
+        int slot = hash(world, particle, cellX, cellY, cellZ) & mask;
+        while (this.table[slot] != 0) {
+            final int existing = this.table[slot] - 1;
+            if (this.worlds[existing] == world && this.particles[existing] == particle
+                && this.cellX[existing] == cellX && this.cellY[existing] == cellY && this.cellZ[existing] == cellZ
+                && this.offsetX[existing] == offsetX && this.offsetY[existing] == offsetY
+                && this.offsetZ[existing] == offsetZ && this.extra[existing] == extra) {
+                this.counts[existing] += count;
+                this.mergedParticles += count;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        if (this.size == this.worlds.length) {
+            this.grow();
+        }
+
+        final int index = this.size++;
+        this.worlds[index] = world;
+        this.particles[index] = particle;
+        this.x[index] = x;
+        this.y[index] = y;
+        this.z[index] = z;
+        this.cellX[index] = cellX;
+        this.cellY[index] = cellY;
+        this.cellZ[index] = cellZ;
+        this.counts[index] = count;
+        this.offsetX[index] = offsetX;
+        this.offsetY[index] = offsetY;
+        this.offsetZ[index] = offsetZ;
+        this.extra[index] = extra;
+        this.sources[index] = source;
+        this.table[slot] = index + 1;
+
+        if (this.size * 2 > this.table.length) {
+            this.rehash(this.table.length * 2);
+        }
+    }
+
+    // Called by the tick engine after all spirals ticked
+    public void flush() {
+        if (this.size == 0) {
+            this.sourceCount = 0;
+            return;
+        }
+
+        final boolean limited = this.maxParticlesPerTick > 0;
+        int remaining = limited ? this.maxParticlesPerTick : Integer.MAX_VALUE;
+        final int quota = limited ? Math.max(1, this.maxParticlesPerTick / Math.max(1, this.sourceCount)) : Integer.MAX_VALUE;
+
+        // First pass: every spiral gets its fair share; second pass: leftover budget in request order
+        for (int pass = 0; pass < 2 && remaining > 0; pass++) {
+            for (int i = 0; i < this.size && remaining > 0; i++) {
+                final int count = this.counts[i];
+                if (count <= 0) continue;
+
+                final int source = this.sources[i];
+                if (pass == 0 && this.sourceUsed[source] + count > quota) continue;
+
+                final int sent = Math.min(count, remaining);
+                this.send(i, sent);
+                this.sourceUsed[source] += sent;
+                this.counts[i] = count - sent;
+                remaining -= sent;
+            }
+        }
+
+        for (int i = 0; i < this.size; i++) {
+            this.droppedParticles += this.counts[i];
+            this.worlds[i] = null;
+            this.particles[i] = null;
+        }
+
+        Arrays.fill(this.table, 0);
+        this.size = 0;
+        this.sourceCount = 0;
+        this.scratchLocation.setWorld(null);
+    }
+
+    private void send(final int index, final int count) {
+        final World world = this.worlds[index];
+        final List<Player> players = world.getPlayers();
+        final double px = this.x[index];
+        final double py = this.y[index];
+        final double pz = this.z[index];
+
+        for (int i = 0; i < players.size(); i++) {
+            final Player player = players.get(i);
+            final Location location = player.getLocation(this.scratchLocation);
+            final double dx = location.getX() - px;
+            final double dy = location.getY() - py;
+            final double dz = location.getZ() - pz;
+            if (dx * dx + dy * dy + dz * dz > this.rangeSquared) continue;
+
+            player.spawnParticle(this.particles[index], px, py, pz, count,
+                this.offsetX[index], this.offsetY[index], this.offsetZ[index], this.extra[index]);
+        }
+        this.sentParticles += count;
+    }
+
+    private void grow() {
+        final int capacity = this.worlds.length * 2;
+        this.worlds = Arrays.copyOf(this.worlds, capacity);
+        this.particles = Arrays.copyOf(this.particles, capacity);
+        this.x = Arrays.copyOf(this.x, capacity);
+        this.y = Arrays.copyOf(this.y, capacity);
+        this.z = Arrays.copyOf(this.z, capacity);
+        this.cellX = Arrays.copyOf(this.cellX, capacity);
+        this.cellY = Arrays.copyOf(this.cellY, capacity);
+        this.cellZ = Arrays.copyOf(this.cellZ, capacity);
+        this.counts = Arrays.copyOf(this.counts, capacity);
+        this.offsetX = Arrays.copyOf(this.offsetX, capacity);
+        this.offsetY = Arrays.copyOf(this.offsetY, capacity);
+        this.offsetZ = Arrays.copyOf(this.offsetZ, capacity);
+        this.extra = Arrays.copyOf(this.extra, capacity);
+        this.sources = Arrays.copyOf(this.sources, capacity);
+    }
+
+    private void rehash(final int capacity) {
+        this.table = new int[capacity];
+        final int mask = capacity - 1;
+        for (int i = 0; i < this.size; i++) {
+            int slot = hash(this.worlds[i], this.particles[i], this.cellX[i], this.cellY[i], this.cellZ[i]) & mask;
+            while (this.table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            this.table[slot] = i + 1;
+        }
+    }
+
+    private static int hash(@NotNull final World world, @NotNull final Particle particle,
+                            final int cellX, final int cellY, final int cellZ) {
+        int hash = System.identityHashCode(world);
+        hash = hash * 31 + particle.ordinal();
+        hash = hash * 73856093 ^ cellX;
+        hash = hash * 19349663 ^ cellY;
+        hash = hash * 83492791 ^ cellZ;
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -2,28 +2,73 @@
 package dev.lovable.spiral;
 
 import lombok.Getter;
+import lombok.Setter;
 import org.bukkit.command.PluginCommand;
 import org.bukkit.plugin.java.JavaPlugin;
+import org.jetbrains.annotations.Nullable;
 
 public final class SpiralPlugin extends JavaPlugin {
 
     @Getter
     private static SpiralPlugin instance;
 
+    @Getter
+    private SpiralTickEngine tickEngine;
+
+    @Getter
+    private SpiralVisibilityIndex visibilityIndex;
+
+    @Getter
+    private SpiralDisplayPool displayPool;
+
+    @Getter
+    private SpiralSpawnScheduler spawnScheduler;
+
     @Getter
     private SpiralManager spiralManager; // Keep for backwards compatibility
 
     @Getter
     private AdvancedSpiralManager advancedSpiralManager;
 
+    // Public metrics API for other plugins
+    @Getter
+    private SpiralStats stats;
+
+    @Nullable
+    private SpiralMetricsExporter metricsExporter;
+
+    // Registered by a protocol bridge to enable the packet-only renderer
+    @Getter
+    @Setter
+    @Nullable
+    private SpiralPacketSender packetSender;
+
     @Override
     public void onEnable() {
         instance = this;
         this.saveDefaultConfig();
 
+        // Single repeating task that drives every active spiral
+        this.tickEngine = new SpiralTickEngine();
+        this.tickEngine.start();
+        this.stats = new SpiralStats();
+
+        // Registered first so visibility is refreshed before the spirals tick
+        this.visibilityIndex = new SpiralVisibilityIndex();
+        this.tickEngine.register(this.visibilityIndex);
+        this.getServer().getPluginManager().registerEvents(this.visibilityIndex, this);
+
+        this.displayPool = new SpiralDisplayPool();
+        this.tickEngine.register(this.displayPool);
+
+        // Before the spirals, so segments spawned this tick are animated in the same tick
+        this.spawnScheduler = new SpiralSpawnScheduler();
+        this.tickEngine.register(this.spawnScheduler);
+
         // Initialize both managers for compatibility
         this.spiralManager = new SpiralManager();
         this.advancedSpiralManager = new AdvancedSpiralManager();
+        this.getServer().getPluginManager().registerEvents(new SpiralChunkListener(), this);
 
         // Register commands
         final PluginCommand spiralCommand = this.getCommand("spiral");
@@ -37,12 +82,22 @@ public final class SpiralPlugin extends JavaPlugin {
             return;
         }
 
+        if (this.getConfig().getBoolean("metrics-exporter.enabled", false)) {
+            this.metricsExporter = new SpiralMetricsExporter();
+            this.metricsExporter.start();
+        }
+
         this.getLogger().info("✨ SpiralBlocks Premium enabled with advanced features!");
         this.getLogger().info("Available spiral types: " + java.util.Arrays.toString(SpiralType.values()));
     }
 
     @Override
     public void onDisable() {
+        if (this.metricsExporter != null) {
+            this.metricsExporter.stop();
+            this.metricsExporter = null;
+        }
+
         if (this.spiralManager != null) {
             this.spiralManager.stop();
         }
@@ -50,6 +105,20 @@ public final class SpiralPlugin extends JavaPlugin {
         if (this.advancedSpiralManager != null) {
             this.advancedSpiralManager.stopAllSpirals();
         }
+
+        // Displays of the spirals just stopped are removed now rather than over the next ticks
+        if (this.spawnScheduler != null) {
+            this.spawnScheduler.flush();
+        }
+
+        // After the spirals, which release their displays into the pool
+        if (this.displayPool != null) {
+            this.displayPool.clear();
+        }
+
+        if (this.tickEngine != null) {
+            this.tickEngine.stop();
+        }
         
         this.getLogger().info("✨ SpiralBlocks Premium disabled. All spirals stopped.");
     }
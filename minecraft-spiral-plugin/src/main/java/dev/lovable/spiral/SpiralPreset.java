@@ -27,7 +27,18 @@ public final class SpiralPreset {
     private final int segmentsPerStream = 0; // 0 = auto
     @Default
     private final int interpolationTicks = 5; // smoother by default
+    @Default
+    private final int tickDivisor = 1; // 1 = 20 Hz, 2 = 10 Hz, 4 = 5 Hz
     
+    // Segments per stream actually spawned: the configured value, or derived from the particle density
+    public int resolveSegmentsPerStream() {
+        return this.segmentsPerStream > 0 ? this.segmentsPerStream : Math.max(12, this.particleDensity / 10);
+    }
+
+    public int getDisplayCount() {
+        return this.resolveSegmentsPerStream() * this.type.getStreamCount();
+    }
+
     public static SpiralPreset getPreset(final String presetName) {
         switch (presetName.toLowerCase()) {
             case "fire":
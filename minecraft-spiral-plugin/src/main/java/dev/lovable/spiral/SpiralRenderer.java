@@ -0,0 +1,53 @@
+package dev.lovable.spiral;
+
+import org.bukkit.Location;
+import org.bukkit.block.data.BlockData;
+import org.jetbrains.annotations.NotNull;
+
+// Rendering backend for one animation. Segments are addressed by the same index as SpiralSegmentState.
+public interface SpiralRenderer {
+
+    void spawn(int index, @NotNull Location location, @NotNull BlockData blockData);
+
+    // Called once per animation update before any move/rotate calls
+    default void beginFrame(@NotNull final Location center) {}
+
+    // Called when visibility culling suspends the animation; no frames are rendered until it resumes
+    default void suspend() {}
+
+    void move(int index, @NotNull Location location, int interpolationTicks);
+
+    // Left rotation about the Y axis, in radians
+    void rotate(int index, float angle);
+
+    // Anchored (rigid) mode: the segment stays where it was spawned and is placed by its transformation
+    // translation, interpolated by the client over interpolationTicks
+    void transform(int index, float offsetX, float offsetY, float offsetZ, float angle, int interpolationTicks);
+
+    // Hidden segments stay allocated but are not drawn (used by level of detail)
+    void setVisible(int index, boolean visible);
+
+    boolean isSpawned(int index);
+
+    void remove(int index);
+
+    void removeAll();
+
+    // Whether removeAll costs about as much as one remove (a single bulk packet), so slicing it gains nothing
+    default boolean hasBulkRemoval() {
+        return false;
+    }
+
+    @NotNull
+    static SpiralRenderer create(@NotNull final SpiralPreset preset, final int size) {
+        final String backend = SpiralPlugin.getInstance().getConfig().getString("renderer", "entity");
+        if ("packet".equalsIgnoreCase(backend)) {
+            final SpiralPacketSender sender = SpiralPlugin.getInstance().getPacketSender();
+            if (sender != null) {
+                return new PacketSpiralRenderer(preset, size, sender);
+            }
+            SpiralPlugin.getInstance().getLogger().warning("renderer is set to 'packet' but no packet sender is registered; using entities.");
+        }
+        return new EntitySpiralRenderer(preset, size);
+    }
+}
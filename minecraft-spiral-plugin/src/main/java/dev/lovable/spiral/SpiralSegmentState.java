@@ -0,0 +1,58 @@
+package dev.lovable.spiral;
+
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+
+// Flat, index-addressed state of one animation. Index i uses the same layout as SpiralTrajectory
+// (segment * streamCount + stream) and the SpiralRenderer, so the hot loop walks every array front to back.
+public final class SpiralSegmentState {
+
+    @Getter private final int size;
+
+    final double[] basePhase;
+    // Swapped with the SpiralFrame back buffer, hence not final
+    float[] x;
+    float[] y;
+    float[] z;
+    final int[] streamIndex;
+    final int[] segmentIndex;
+    final boolean[] visible;
+    // Last offset and angle sent to the renderer (NaN = never), for delta suppression
+    final float[] sentX;
+    final float[] sentY;
+    final float[] sentZ;
+    final float[] sentAngle;
+    // Offsets at the current phase while x/y/z hold a pose sent ahead (keyframe or rigid target), for particles
+    final float[] poseX;
+    final float[] poseY;
+    final float[] poseZ;
+
+    public SpiralSegmentState(@NotNull final SpiralTrajectory trajectory) {
+        this.size = trajectory.getSize();
+        this.basePhase = new double[this.size];
+        this.x = new float[this.size];
+        this.y = new float[this.size];
+        this.z = new float[this.size];
+        this.streamIndex = new int[this.size];
+        this.segmentIndex = new int[this.size];
+        this.visible = new boolean[this.size];
+        this.sentX = new float[this.size];
+        this.sentY = new float[this.size];
+        this.sentZ = new float[this.size];
+        this.sentAngle = new float[this.size];
+        this.poseX = new float[this.size];
+        this.poseY = new float[this.size];
+        this.poseZ = new float[this.size];
+
+        for (int i = 0; i < this.size; i++) {
+            this.basePhase[i] = trajectory.getBasePhase(i);
+            this.streamIndex[i] = trajectory.streamOf(i);
+            this.segmentIndex[i] = trajectory.segmentOf(i);
+            this.visible[i] = true;
+            this.sentX[i] = Float.NaN;
+            this.sentY[i] = Float.NaN;
+            this.sentZ[i] = Float.NaN;
+            this.sentAngle[i] = Float.NaN;
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package dev.lovable.spiral;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Spiral centers bucketed by chunk, per world. A range query only probes the chunks its box overlaps (widened by
+// the largest spiral radius), so "which spirals are near this player" no longer scans every spiral. Starting or
+// stopping a spiral is O(1) and only marks its world's table stale; the first query after that rebuilds the
+// immutable table once, so a batch of starts or stops costs one rebuild. Queries on a current table never lock,
+// can run on any thread and allocate nothing when given a reused output list.
+public final class SpiralSpatialIndex {
+
+    private record Node(@NotNull String id, @NotNull AdvancedSpiralAnimation animation, long chunkKey) {}
+
+    // Nodes sorted by chunk; an open-addressing table maps each chunk key to its [start, end) run
+    private static final class Grid {
+
+        private final String[] ids;
+        private final AdvancedSpiralAnimation[] animations;
+        private final double[] x;
+        private final double[] z;
+        private final long[] keys;
+        private final int[] starts;
+        private final int[] ends;
+        private final double maxReach;
+
+        private Grid(@NotNull final List<Node> nodes) {
+            final int size = nodes.size();
+            this.ids = new String[size];
+            this.animations = new AdvancedSpiralAnimation[size];
+            this.x = new double[size];
+            this.z = new double[size];
+
+            int capacity = 4;
+            while (capacity < size * 2) {
+                capacity <<= 1;
+            }
+            this.keys = new long[capacity];
+            this.starts = new int[capacity];
+            this.ends = new int[capacity];
+
+            double maxReach = 0.0;
+            for (int i = 0; i < size; i++) {
+                final Node node = nodes.get(i);
+                final Location center = node.animation().getCenter();
+                this.ids[i] = node.id();
+                this.animations[i] = node.animation();
+                this.x[i] = center.getX();
+                this.z[i] = center.getZ();
+                maxReach = Math.max(maxReach, node.animation().getPreset().getRadius());
+
+                // Runs are contiguous because nodes are sorted by chunk key
+                if (i > 0 && nodes.get(i - 1).chunkKey() == node.chunkKey()) {
+                    this.ends[this.slotOf(node.chunkKey())] = i + 1;
+                    continue;
+                }
+                int slot = mix(node.chunkKey()) & (capacity - 1);
+                while (this.ends[slot] != 0) {
+                    slot = (slot + 1) & (capacity - 1);
+                }
+                this.keys[slot] = node.chunkKey();
+                this.starts[slot] = i;
+                this.ends[slot] = i + 1;
+            }
+            this.maxReach = maxReach;
+        }
+
+        // Slot of a chunk key, or -1 when no spiral is centered in that chunk
+        private int slotOf(final long chunkKey) {
+            final int mask = this.keys.length - 1;
+            int slot = mix(chunkKey) & mask;
+            while (this.ends[slot] != 0) {
+                if (this.keys[slot] == chunkKey) return slot;
+                slot = (slot + 1) & mask;
+            }
+            return -1;
+        }
+    }
+
+    // Nodes of one world by spiral id (guarded by the index) and the table built from them, null while stale
+    private static final class WorldNodes {
+
+        private final Map<String, Node> nodes = new HashMap<>();
+        private volatile Grid grid;
+    }
+
+    private final Map<UUID, WorldNodes> worlds = new ConcurrentHashMap<>();
+
+    public synchronized void add(@NotNull final String spiralId, @NotNull final AdvancedSpiralAnimation animation) {
+        final World world = animation.getCenter().getWorld();
+        if (world == null) return;
+
+        final Location center = animation.getCenter();
+        final WorldNodes worldNodes = this.worlds.computeIfAbsent(world.getUID(), key -> new WorldNodes());
+        worldNodes.nodes.put(spiralId, new Node(spiralId, animation, chunkKey(center.getBlockX() >> 4, center.getBlockZ() >> 4)));
+        worldNodes.grid = null;
+    }
+
+    public synchronized void remove(@NotNull final String spiralId, @NotNull final AdvancedSpiralAnimation animation) {
+        final World world = animation.getCenter().getWorld();
+        if (world == null) return;
+
+        final WorldNodes worldNodes = this.worlds.get(world.getUID());
+        if (worldNodes == null || worldNodes.nodes.remove(spiralId) == null) return;
+
+        if (worldNodes.nodes.isEmpty()) {
+            this.worlds.remove(world.getUID());
+        }
+        worldNodes.grid = null;
+    }
+
+    // Spirals whose center lies in the given chunk, appended to out
+    public void collectInChunk(@NotNull final World world, final int chunkX, final int chunkZ,
+                               @NotNull final List<AdvancedSpiralAnimation> out) {
+        final Grid grid = this.gridOf(world);
+        if (grid == null) return;
+
+        final int slot = grid.slotOf(chunkKey(chunkX, chunkZ));
+        if (slot < 0) return;
+        for (int i = grid.starts[slot]; i < grid.ends[slot]; i++) {
+            out.add(grid.animations[i]);
+        }
+    }
+
+    // Spirals whose bounding box is within radius of the location, appended to out
+    public void collectNear(@NotNull final Location location, final double radius,
+                            @NotNull final List<AdvancedSpiralAnimation> out) {
+        final Grid grid = this.gridOf(location);
+        if (grid == null) return;
+
+        this.scan(grid, location, radius, out, null);
+    }
+
+    // Same query as collectNear, appending spiral ids instead
+    public void collectIdsNear(@NotNull final Location location, final double radius, @NotNull final List<String> out) {
+        final Grid grid = this.gridOf(location);
+        if (grid == null) return;
+
+        this.scan(grid, location, radius, null, out);
+    }
+
+    public static long chunkKey(final int chunkX, final int chunkZ) {
+        return ((long) chunkZ << 32) | (chunkX & 0xFFFFFFFFL);
+    }
+
+    private Grid gridOf(@NotNull final Location location) {
+        final World world = location.getWorld();
+        return world != null ? this.gridOf(world) : null;
+    }
+
+    private Grid gridOf(@NotNull final World world) {
+        final WorldNodes worldNodes = this.worlds.get(world.getUID());
+        if (worldNodes == null) return null;
+
+        final Grid grid = worldNodes.grid;
+        return grid != null ? grid : this.rebuild(worldNodes);
+    }
+
+    @NotNull
+    private synchronized Grid rebuild(@NotNull final WorldNodes worldNodes) {
+        // Another query may have rebuilt it while this one waited for the lock
+        Grid grid = worldNodes.grid;
+        if (grid == null) {
+            final List<Node> sorted = new ArrayList<>(worldNodes.nodes.values());
+            sorted.sort(Comparator.comparingLong(Node::chunkKey));
+            grid = new Grid(sorted);
+            worldNodes.grid = grid;
+        }
+        return grid;
+    }
+
+    private void scan(@NotNull final Grid grid, @NotNull final Location location, final double radius,
+                      final List<AdvancedSpiralAnimation> animations, final List<String> ids) {
+        final double reach = radius + grid.maxReach;
+        final double px = location.getX();
+        final double pz = location.getZ();
+        final int minChunkX = (int) Math.floor(px - reach) >> 4;
+        final int maxChunkX = (int) Math.floor(px + reach) >> 4;
+        final int minChunkZ = (int) Math.floor(pz - reach) >> 4;
+        final int maxChunkZ = (int) Math.floor(pz + reach) >> 4;
+        final double radiusSquared = radius * radius;
+
+        // Probing more chunks than there are spirals costs more than checking each spiral
+        final long chunks = (long) (maxChunkX - minChunkX + 1) * (maxChunkZ - minChunkZ + 1);
+        if (chunks >= grid.animations.length) {
+            for (int i = 0; i < grid.animations.length; i++) {
+                this.test(grid, i, location, px, pz, reach, radiusSquared, animations, ids);
+            }
+            return;
+        }
+
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                final int slot = grid.slotOf(chunkKey(chunkX, chunkZ));
+                if (slot < 0) continue;
+
+                for (int i = grid.starts[slot]; i < grid.ends[slot]; i++) {
+                    this.test(grid, i, location, px, pz, reach, radiusSquared, animations, ids);
+                }
+            }
+        }
+    }
+
+    private void test(@NotNull final Grid grid, final int index, @NotNull final Location location,
+                      final double px, final double pz, final double reach, final double radiusSquared,
+                      final List<AdvancedSpiralAnimation> animations, final List<String> ids) {
+        // Cheap box reject on the center before the exact bounding-box distance
+        if (Math.abs(grid.x[index] - px) > reach || Math.abs(grid.z[index] - pz) > reach) return;
+        if (grid.animations[index].distanceSquaredTo(location) > radiusSquared) return;
+
+        if (animations != null) animations.add(grid.animations[index]);
+        if (ids != null) ids.add(grid.ids[index]);
+    }
+
+    private static int mix(final long key) {
+        final long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+}
@@ -0,0 +1,134 @@
+package dev.lovable.spiral;
+
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayDeque;
+
+// Spreads display spawning and removal over ticks: at most spawn-quota-per-tick segments are spawned and
+// removal-quota-per-tick removed per server tick, over all spirals. Spirals are served first come first
+// served and already animate the segments that exist, so a large spiral grows in over a few ticks instead
+// of spiking one. Quota the spirals leave over fills the display pool up to min-size. Renderers whose
+// removeAll is a single bulk packet are removed at once. Main thread only.
+public final class SpiralSpawnScheduler implements SpiralTickable {
+
+    // Renderer of a stopped spiral whose segments are still being removed
+    private static final class Retired {
+
+        @NotNull private final SpiralRenderer renderer;
+        private final int size;
+        private int cursor = 0;
+
+        private Retired(@NotNull final SpiralRenderer renderer, final int size) {
+            this.renderer = renderer;
+            this.size = size;
+        }
+    }
+
+    private final int spawnQuota;
+    private final int removalQuota;
+
+    private final ArrayDeque<AdvancedSpiralAnimation> spawning = new ArrayDeque<>();
+    private final ArrayDeque<Retired> removing = new ArrayDeque<>();
+
+    @Getter private long spawned = 0L;
+    @Getter private long removed = 0L;
+
+    public SpiralSpawnScheduler() {
+        this.spawnQuota = Math.max(0, SpiralPlugin.getInstance().getConfig().getInt("spawn-quota-per-tick", 100));
+        this.removalQuota = Math.max(0, SpiralPlugin.getInstance().getConfig().getInt("removal-quota-per-tick", 200));
+    }
+
+    // Spawns the spiral's segments over the next ticks, or right away when spawning is not limited
+    public void enqueue(@NotNull final AdvancedSpiralAnimation animation) {
+        if (this.spawnQuota == 0) {
+            this.spawned += animation.spawnPending(Integer.MAX_VALUE);
+            return;
+        }
+        if (!this.spawning.contains(animation)) {
+            this.spawning.addLast(animation);
+        }
+    }
+
+    public void cancel(@NotNull final AdvancedSpiralAnimation animation) {
+        this.spawning.remove(animation);
+    }
+
+    // Takes over removing a stopped spiral's displays
+    public void retire(@NotNull final SpiralRenderer renderer, final int size) {
+        if (this.removalQuota == 0 || renderer.hasBulkRemoval()) {
+            renderer.removeAll();
+            this.removed += size;
+            return;
+        }
+        this.removing.addLast(new Retired(renderer, size));
+    }
+
+    public int getPendingSpawns() {
+        int pending = 0;
+        for (final AdvancedSpiralAnimation animation : this.spawning) {
+            pending += animation.getPendingSpawnCount();
+        }
+        return pending;
+    }
+
+    public int getPendingRemovals() {
+        int pending = 0;
+        for (final Retired retired : this.removing) {
+            pending += retired.size - retired.cursor;
+        }
+        return pending;
+    }
+
+    // Removes everything still waiting for removal and forgets pending spawns (plugin disable)
+    public void flush() {
+        this.spawning.clear();
+        for (final Retired retired : this.removing) {
+            retired.renderer.removeAll();
+            this.removed += retired.size - retired.cursor;
+        }
+        this.removing.clear();
+    }
+
+    @Override
+    public boolean isEssential() {
+        return true;
+    }
+
+    @Override
+    public void tick(final int elapsedTicks, final boolean cosmetic) {
+        int spawnBudget = this.spawnQuota;
+        while (spawnBudget > 0 && !this.spawning.isEmpty()) {
+            final AdvancedSpiralAnimation animation = this.spawning.peekFirst();
+            final int count = animation.spawnPending(spawnBudget);
+            spawnBudget -= count;
+            this.spawned += count;
+            // Nothing spawned means the spiral stopped or lost its world
+            if (count == 0 || animation.getPendingSpawnCount() == 0) {
+                this.spawning.pollFirst();
+            }
+        }
+
+        final SpiralDisplayPool pool = SpiralPlugin.getInstance().getDisplayPool();
+        if (pool.isPrewarming() && (this.spawnQuota == 0 || spawnBudget > 0)) {
+            pool.prewarm(this.spawnQuota == 0 ? Integer.MAX_VALUE : spawnBudget);
+        }
+
+        int removalBudget = this.removalQuota;
+        while (removalBudget > 0 && !this.removing.isEmpty()) {
+            final Retired retired = this.removing.peekFirst();
+            while (removalBudget > 0 && retired.cursor < retired.size) {
+                if (retired.renderer.isSpawned(retired.cursor)) {
+                    retired.renderer.remove(retired.cursor);
+                    removalBudget--;
+                    this.removed++;
+                }
+                retired.cursor++;
+            }
+            if (retired.cursor == retired.size) {
+                retired.renderer.removeAll();
+                this.removing.pollFirst();
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package dev.lovable.spiral;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+// Read-only performance API for other plugins: SpiralPlugin.getInstance().getStats().
+// Every value is backed by atomics, so it can be polled from any thread.
+public final class SpiralStats {
+
+    // Totals and per-spiral tick time distribution over all spirals
+    @NotNull
+    public SpiralMetrics.Snapshot getGlobal() {
+        return SpiralPlugin.getInstance().getTickEngine().getMetrics().snapshot();
+    }
+
+    @Nullable
+    public SpiralMetrics.Snapshot getSpiral(@NotNull final String spiralId) {
+        final AdvancedSpiralAnimation spiral = SpiralPlugin.getInstance().getAdvancedSpiralManager().getSpiral(spiralId);
+        return spiral != null ? spiral.getMetrics().snapshot() : null;
+    }
+
+    @NotNull
+    public List<String> getSpiralIds() {
+        return SpiralPlugin.getInstance().getAdvancedSpiralManager().listActiveSpirals();
+    }
+
+    // Duration of whole engine ticks (all spirals, particle flush and frame dispatch)
+    public long getEngineTickPercentile(final double quantile) {
+        return SpiralPlugin.getInstance().getTickEngine().getTickNanos().percentile(quantile);
+    }
+}
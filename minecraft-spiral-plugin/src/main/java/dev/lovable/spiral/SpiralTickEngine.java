@@ -0,0 +1,269 @@
+package dev.lovable.spiral;
+
+import lombok.Getter;
+import org.bukkit.scheduler.BukkitRunnable;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+
+public final class SpiralTickEngine {
+
+    // A tickable that keeps throwing is logged with its stack trace once, then once per this many failures in a row
+    private static final int FAILURE_LOG_INTERVAL = 1200;
+
+    // Insertion-ordered so every tick visits spirals in the same, deterministic order
+    private final Map<SpiralTickable, Entry> entries = new LinkedHashMap<>();
+    private Entry[] order = new Entry[0];
+    private Entry[] essentials = new Entry[0];
+    private boolean orderDirty = false;
+
+    private BukkitRunnable task;
+    @Getter private SpiralParticleBatcher particleBatcher;
+    @Getter private SpiralFramePipeline framePipeline;
+    private long registrations = 0L;
+    private long budgetNanos = 0L;
+    // Index into order of the spiral that goes first; only valid for the current order
+    private int cursor = 0;
+
+    @Getter
+    private long currentTick = 0L;
+
+    @Getter
+    private long lastTickNanos = 0L;
+
+    @Getter
+    private long budgetOverruns = 0L;
+
+    @Getter
+    private long deferredUpdates = 0L;
+
+    @Getter
+    private long degradedUpdates = 0L;
+
+    // Aggregate of every spiral's metrics, plus the duration of whole engine ticks
+    @Getter
+    @NotNull private final SpiralMetrics metrics = new SpiralMetrics(null);
+
+    @Getter
+    @NotNull private final SpiralHistogram tickNanos = new SpiralHistogram();
+
+    public void start() {
+        if (this.task != null) return;
+
+        final double budgetMillis = SpiralPlugin.getInstance().getConfig().getDouble("tick-budget-ms", 2.0);
+        this.budgetNanos = budgetMillis > 0.0 ? (long) (budgetMillis * 1_000_000.0) : 0L;
+        this.particleBatcher = new SpiralParticleBatcher();
+        this.framePipeline = new SpiralFramePipeline();
+
+        this.task = new BukkitRunnable() {
+            @Override
+            public void run() {
+                tick();
+            }
+        };
+        this.task.runTaskTimer(SpiralPlugin.getInstance(), 1L, 1L);
+    }
+
+    public void stop() {
+        if (this.task != null) {
+            try {
+                this.task.cancel();
+            } catch (final Exception ignored) {}
+            this.task = null;
+        }
+        if (this.framePipeline != null) {
+            this.framePipeline.shutdown();
+        }
+
+        for (final Entry entry : this.entries.values()) {
+            entry.active = false;
+        }
+        this.entries.clear();
+        this.order = new Entry[0];
+        this.essentials = new Entry[0];
+        this.orderDirty = false;
+        this.cursor = 0;
+    }
+
+    public void register(@NotNull final SpiralTickable tickable) {
+        if (this.entries.containsKey(tickable)) return;
+
+        // Stagger spirals sharing a divisor so 10 Hz / 5 Hz work is spread over consecutive ticks
+        final int divisor = Math.max(1, tickable.getTickDivisor());
+        final Entry entry = new Entry(tickable, (int) (this.registrations++ % divisor));
+        this.entries.put(tickable, entry);
+        this.orderDirty = true;
+    }
+
+    public void unregister(@NotNull final SpiralTickable tickable) {
+        final Entry entry = this.entries.remove(tickable);
+        if (entry == null) return;
+
+        // The entry may still be in the snapshot being iterated, so flag it instead of touching the array
+        entry.active = false;
+        this.orderDirty = true;
+    }
+
+    public boolean isRegistered(@NotNull final SpiralTickable tickable) {
+        return this.entries.containsKey(tickable);
+    }
+
+    public int getRegisteredCount() {
+        return this.entries.size();
+    }
+
+    private void tick() {
+        final long engineStartNanos = System.nanoTime();
+        this.currentTick++;
+
+        if (this.orderDirty) {
+            this.rebuildOrder();
+        }
+
+        for (final Entry entry : this.essentials) {
+            if (!entry.active) continue;
+
+            entry.pendingTicks++;
+            if (entry.pendingTicks < Math.max(1, entry.tickable.getTickDivisor())) continue;
+            if (entry.tickable.isSuspended()) continue;
+
+            final int elapsedTicks = entry.pendingTicks;
+            entry.pendingTicks = 0;
+            this.run(entry, elapsedTicks, true, System.nanoTime());
+        }
+
+        // The budget covers the spirals only
+        final long startNanos = System.nanoTime();
+
+        final Entry[] snapshot = this.order;
+        final int size = snapshot.length;
+        if (this.cursor >= size) {
+            this.cursor = 0;
+        }
+
+        // Past half the budget cosmetic work is dropped, past the full budget updates are deferred.
+        // Deferred spirals keep accumulating pending ticks and catch up their phase on the next update.
+        final long cosmeticLimit = this.budgetNanos / 2L;
+        int firstDegraded = -1;
+        boolean overrun = false;
+
+        for (int i = 0; i < size; i++) {
+            final int index = (this.cursor + i) % size;
+            final Entry entry = snapshot[index];
+            if (!entry.active) continue;
+
+            entry.pendingTicks++;
+            if (entry.pendingTicks < Math.max(1, entry.tickable.getTickDivisor())) continue;
+            if (entry.tickable.isSuspended()) continue;
+
+            final long spent = System.nanoTime() - startNanos;
+            if (this.budgetNanos > 0L && spent >= this.budgetNanos) {
+                overrun = true;
+                this.deferredUpdates++;
+                if (firstDegraded < 0) firstDegraded = index;
+                continue;
+            }
+
+            final boolean cosmetic = this.budgetNanos <= 0L || spent < cosmeticLimit;
+            if (!cosmetic) {
+                this.degradedUpdates++;
+                if (firstDegraded < 0) firstDegraded = index;
+            }
+
+            final int elapsedTicks = entry.pendingTicks;
+            entry.pendingTicks = 0;
+
+            this.run(entry, elapsedTicks, cosmetic, startNanos + spent);
+        }
+
+        // Round-robin: spirals that were degraded or deferred go first next tick
+        if (firstDegraded >= 0) {
+            this.cursor = firstDegraded;
+        }
+        if (overrun) {
+            this.budgetOverruns++;
+        }
+
+        // Frames scheduled during this tick are computed while the server does the rest of its tick
+        this.framePipeline.dispatch();
+
+        // Particles requested by all spirals this tick go out in one budgeted batch
+        try {
+            this.particleBatcher.flush();
+        } catch (final Exception ex) {
+            SpiralPlugin.getInstance().getLogger().warning("Particle flush failed: " + ex.getMessage());
+        }
+
+        this.lastTickNanos = System.nanoTime() - engineStartNanos;
+        this.tickNanos.record(this.lastTickNanos);
+    }
+
+    private void run(@NotNull final Entry entry, final int elapsedTicks, final boolean cosmetic, final long tickStart) {
+        try {
+            entry.tickable.tick(elapsedTicks, cosmetic);
+            entry.failures = 0;
+        } catch (final Exception ex) {
+            this.logFailure(entry, ex);
+        }
+
+        final SpiralMetrics tickableMetrics = entry.tickable.getMetrics();
+        if (tickableMetrics != null) {
+            tickableMetrics.recordTick(System.nanoTime() - tickStart);
+        }
+    }
+
+    // Registrations since the last tick only append or drop entries, so the spiral the cursor pointed at (or the
+    // first one after it that is still registered) keeps its turn in the rebuilt order
+    private void rebuildOrder() {
+        final Entry[] previous = this.order;
+        Entry resume = null;
+        for (int i = 0; i < previous.length && resume == null; i++) {
+            final Entry candidate = previous[(this.cursor + i) % previous.length];
+            if (candidate.active) resume = candidate;
+        }
+
+        final List<Entry> spirals = new ArrayList<>(this.entries.size());
+        final List<Entry> essentials = new ArrayList<>();
+        for (final Entry entry : this.entries.values()) {
+            (entry.tickable.isEssential() ? essentials : spirals).add(entry);
+        }
+        this.order = spirals.toArray(new Entry[0]);
+        this.essentials = essentials.toArray(new Entry[0]);
+        this.orderDirty = false;
+        this.cursor = 0;
+        for (int i = 0; i < this.order.length && resume != null; i++) {
+            if (this.order[i] == resume) {
+                this.cursor = i;
+                break;
+            }
+        }
+    }
+
+    private void logFailure(@NotNull final Entry entry, @NotNull final Exception ex) {
+        entry.failures++;
+        final String name = entry.tickable.getClass().getSimpleName();
+        if (entry.failures == 1) {
+            SpiralPlugin.getInstance().getLogger().log(Level.WARNING, name + " tick failed", ex);
+        } else if (entry.failures % FAILURE_LOG_INTERVAL == 0) {
+            SpiralPlugin.getInstance().getLogger().warning(name + " tick failed " + entry.failures
+                + " times in a row: " + ex);
+        }
+    }
+
+    private static final class Entry {
+        @NotNull private final SpiralTickable tickable;
+        private int pendingTicks;
+        private boolean active = true;
+        // Consecutive tick() calls that threw
+        private int failures;
+
+        private Entry(@NotNull final SpiralTickable tickable, final int initialPendingTicks) {
+            this.tickable = tickable;
+            this.pendingTicks = initialPendingTicks;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package dev.lovable.spiral;
+
+import org.jetbrains.annotations.Nullable;
+
+public interface SpiralTickable {
+
+    // Called by the SpiralTickEngine; elapsedTicks is the number of server ticks since the last call.
+    // When cosmetic is false the engine is over budget and particles / transformation updates should be skipped.
+    void tick(int elapsedTicks, boolean cosmetic);
+
+    // 1 = every tick (20 Hz), 2 = every other tick (10 Hz), 4 = 5 Hz, ...
+    default int getTickDivisor() {
+        return 1;
+    }
+
+    // Suspended tickables are skipped but keep accumulating elapsed ticks, so they resume at the right phase
+    default boolean isSuspended() {
+        return false;
+    }
+
+    // Essential tickables (visibility, pooling, spawning, metrics) run before the spirals and outside the budget,
+    // so an overrun never defers the work that relieves it
+    default boolean isEssential() {
+        return false;
+    }
+
+    // When present the engine records the duration of every tick() call into it
+    @Nullable
+    default SpiralMetrics getMetrics() {
+        return null;
+    }
+}
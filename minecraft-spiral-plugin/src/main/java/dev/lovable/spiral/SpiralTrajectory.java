@@ -0,0 +1,317 @@
+package dev.lovable.spiral;
+
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Precomputed sample table for one spiral shape. Every SpiralType is written as
+//   angle  = angle0  + angleRate  * globalPhase
+//   radius = radius0 + radius1 * sin(radiusPhase0 + radiusRate * globalPhase)
+//   y      = y0      + y1      * sin(heightPhase0 + heightRate * globalPhase)
+// so the per-segment terms are tabulated once and a tick only needs one sin/cos pair per rate,
+// expanded per segment with the angle-addition identities.
+public final class SpiralTrajectory {
+
+    private static final double GOLDEN_RATIO = 1.618033988749;
+    private static final int MAX_CACHED = 64;
+    private static final int CHORD_SAMPLES = 8;
+    // Every rate is a multiple of 1 / RATE_SCALE, which makes the shape periodic in the global phase
+    private static final int RATE_SCALE = 8;
+
+    // Shared between every spiral using the same shape; access-ordered so the least recently used table is dropped
+    private static final Map<Key, SpiralTrajectory> CACHE = new LinkedHashMap<>(16, 0.75f, true);
+
+    @Getter @NotNull private final SpiralType type;
+    @Getter private final int streamCount;
+    @Getter private final int segmentsPerStream;
+    @Getter private final int size;
+
+    private final double angleRate;
+    private final double radiusRate;
+    private final double heightRate;
+
+    // Indexed by segment * streamCount + stream, so low indices are the bottom of every stream
+    private final double[] cosAngle;
+    private final double[] sinAngle;
+    private final double[] baseRadius;
+    private final double[] radiusWave;
+    private final double[] sinRadius;
+    private final double[] cosRadius;
+    private final double[] baseY;
+    private final double[] heightWave;
+    private final double[] sinHeight;
+    private final double[] cosHeight;
+    private final double[] basePhase;
+
+    // Identifies the shape; SpiralTrajectory.of may drop a table and build an equal one later
+    @NotNull final Key key;
+
+    // One precomputed period, installed and evicted by the SpiralFrameCache
+    @Nullable volatile SpiralFrameCache.Cycle cycle;
+
+    // Intervals chosen by updateInterval; the tables never change, so an entry never goes stale
+    private final Map<IntervalKey, Integer> intervals = new ConcurrentHashMap<>();
+
+    private SpiralTrajectory(@NotNull final SpiralType type, final int segmentsPerStream,
+                             final double radius, final double height) {
+        this.key = new Key(type, segmentsPerStream, radius, height);
+        this.type = type;
+        this.streamCount = type.getStreamCount();
+        this.segmentsPerStream = segmentsPerStream;
+        this.size = this.streamCount * segmentsPerStream;
+
+        this.cosAngle = new double[this.size];
+        this.sinAngle = new double[this.size];
+        this.baseRadius = new double[this.size];
+        this.radiusWave = new double[this.size];
+        this.sinRadius = new double[this.size];
+        this.cosRadius = new double[this.size];
+        this.baseY = new double[this.size];
+        this.heightWave = new double[this.size];
+        this.sinHeight = new double[this.size];
+        this.cosHeight = new double[this.size];
+        this.basePhase = new double[this.size];
+
+        switch (type) {
+            case GALAXY:
+                this.angleRate = 0.5;
+                this.radiusRate = 0.0;
+                this.heightRate = 1.0;
+                break;
+            case WAVE:
+                this.angleRate = 1.0;
+                this.radiusRate = 1.0;
+                this.heightRate = 2.0;
+                break;
+            case TORNADO:
+                this.angleRate = 1.0;
+                this.radiusRate = 0.0;
+                this.heightRate = 4.0;
+                break;
+            case DOUBLE_HELIX:
+                this.angleRate = 1.0;
+                this.radiusRate = 3.0;
+                this.heightRate = 0.0;
+                break;
+            case DNA:
+                this.angleRate = 1.0;
+                this.radiusRate = 0.0;
+                this.heightRate = 2.0;
+                break;
+            default: // HELIX
+                this.angleRate = 1.0;
+                this.radiusRate = 0.0;
+                this.heightRate = 0.0;
+                break;
+        }
+
+        for (int stream = 0; stream < this.streamCount; stream++) {
+            final double streamOffset = (Math.PI * 2.0 * stream) / this.streamCount;
+
+            for (int i = 0; i < segmentsPerStream; i++) {
+                final int index = i * this.streamCount + stream;
+                final double t = (double) i / (double) segmentsPerStream;
+                // Per-display phase offset; the animation adds globalPhase on top of it
+                final double phase = t + streamOffset;
+
+                final double angle;
+                double radius0 = 0.0;
+                double radius1 = 0.0;
+                double radiusPhase = 0.0;
+                double y0 = t * height;
+                double y1 = 0.0;
+                double heightPhase = 0.0;
+
+                switch (type) {
+                    case DOUBLE_HELIX:
+                        angle = t * Math.PI * 6.0 + phase + streamOffset;
+                        radius0 = radius * 0.8;
+                        radius1 = radius * 0.2;
+                        radiusPhase = phase * 3.0;
+                        break;
+                    case WAVE:
+                        angle = t * Math.PI * 4.0 + phase;
+                        radius1 = radius;
+                        radiusPhase = t * Math.PI * 2.0 + phase;
+                        y1 = 2.0;
+                        heightPhase = phase * 2.0;
+                        break;
+                    case TORNADO:
+                        angle = t * Math.PI * 8.0 + phase;
+                        radius0 = radius * (1 - t * 0.7); // Narrows towards top
+                        y1 = 0.5;
+                        heightPhase = phase * 4.0;
+                        break;
+                    case GALAXY:
+                        angle = t * Math.PI * 4.0 + phase * 0.5 + streamOffset * GOLDEN_RATIO;
+                        radius0 = radius * Math.pow(t, 0.7); // Logarithmic spiral
+                        y1 = 1.5;
+                        heightPhase = phase;
+                        break;
+                    case DNA:
+                        angle = t * Math.PI * 4.0 + phase + streamOffset;
+                        radius0 = radius * 0.8;
+                        // cos(2 * angle) rewritten as a phase-shifted sine
+                        y1 = 0.3;
+                        heightPhase = angle * 2.0 + Math.PI / 2.0;
+                        break;
+                    default: // HELIX
+                        angle = t * Math.PI * 6.0 + phase;
+                        radius0 = radius;
+                        break;
+                }
+
+                this.cosAngle[index] = Math.cos(angle);
+                this.sinAngle[index] = Math.sin(angle);
+                this.baseRadius[index] = radius0;
+                this.radiusWave[index] = radius1;
+                this.sinRadius[index] = Math.sin(radiusPhase);
+                this.cosRadius[index] = Math.cos(radiusPhase);
+                this.baseY[index] = y0;
+                this.heightWave[index] = y1;
+                this.sinHeight[index] = Math.sin(heightPhase);
+                this.cosHeight[index] = Math.cos(heightPhase);
+                this.basePhase[index] = phase;
+            }
+        }
+    }
+
+    @NotNull
+    public static SpiralTrajectory of(@NotNull final SpiralType type, final int segmentsPerStream,
+                                      final double radius, final double height) {
+        final Key key = new Key(type, segmentsPerStream, radius, height);
+        synchronized (CACHE) {
+            SpiralTrajectory trajectory = CACHE.get(key);
+            if (trajectory == null) {
+                trajectory = new SpiralTrajectory(type, segmentsPerStream, radius, height);
+                CACHE.put(key, trajectory);
+                if (CACHE.size() > MAX_CACHED) {
+                    // Spirals keep their own reference, so dropping a table only costs a rebuild
+                    CACHE.remove(CACHE.keySet().iterator().next());
+                }
+            }
+            return trajectory;
+        }
+    }
+
+    public int streamOf(final int index) {
+        return index % this.streamCount;
+    }
+
+    public int segmentOf(final int index) {
+        return index / this.streamCount;
+    }
+
+    public double getBasePhase(final int index) {
+        return this.basePhase[index];
+    }
+
+    // Writes the offset from the spiral center of every segment at the given global phase
+    public void sample(final double globalPhase, @NotNull final float[] x, @NotNull final float[] y, @NotNull final float[] z) {
+        this.sample(globalPhase, x, y, z, 0, this.size);
+    }
+
+    // Same as above for indices [from, to) only, so one large spiral can be split between workers
+    public void sample(final double globalPhase, @NotNull final float[] x, @NotNull final float[] y, @NotNull final float[] z,
+                       final int from, final int to) {
+        final SpiralFrameCache.Cycle cached = this.cycle;
+        if (cached != null) {
+            cached.sample(globalPhase, x, y, z, from, to);
+        } else {
+            this.compute(globalPhase, x, y, z, from, to);
+        }
+    }
+
+    // Smallest phase step after which every segment is back where it started: 2 pi over the greatest common
+    // divisor of the rates; NaN when a rate is not a multiple of 1 / RATE_SCALE or the shape does not move
+    public double getPeriod() {
+        long divisor = 0L;
+        for (final double rate : new double[] { this.angleRate, this.radiusRate, this.heightRate }) {
+            if (rate == 0.0) continue;
+
+            final double scaled = Math.abs(rate) * RATE_SCALE;
+            final long rounded = Math.round(scaled);
+            if (rounded == 0L || Math.abs(scaled - rounded) > 1.0e-9) return Double.NaN;
+            divisor = gcd(divisor, rounded);
+        }
+        return divisor != 0L ? Math.PI * 2.0 * RATE_SCALE / divisor : Double.NaN;
+    }
+
+    // Evaluates the formulas directly, bypassing a cached cycle
+    void compute(final double globalPhase, @NotNull final float[] x, @NotNull final float[] y, @NotNull final float[] z,
+                 final int from, final int to) {
+        final double cosA = Math.cos(this.angleRate * globalPhase);
+        final double sinA = Math.sin(this.angleRate * globalPhase);
+        final double cosR = this.radiusRate != 0.0 ? Math.cos(this.radiusRate * globalPhase) : 1.0;
+        final double sinR = this.radiusRate != 0.0 ? Math.sin(this.radiusRate * globalPhase) : 0.0;
+        final double cosH = this.heightRate != 0.0 ? Math.cos(this.heightRate * globalPhase) : 1.0;
+        final double sinH = this.heightRate != 0.0 ? Math.sin(this.heightRate * globalPhase) : 0.0;
+
+        for (int i = from; i < to; i++) {
+            final double cosAngleNow = this.cosAngle[i] * cosA - this.sinAngle[i] * sinA;
+            final double sinAngleNow = this.sinAngle[i] * cosA + this.cosAngle[i] * sinA;
+            final double radius = this.baseRadius[i]
+                + this.radiusWave[i] * (this.sinRadius[i] * cosR + this.cosRadius[i] * sinR);
+
+            x[i] = (float) (radius * cosAngleNow);
+            y[i] = (float) (this.baseY[i] + this.heightWave[i] * (this.sinHeight[i] * cosH + this.cosHeight[i] * sinH));
+            z[i] = (float) (radius * sinAngleNow);
+        }
+    }
+
+    // Largest update interval (ticks, up to maxInterval) whose straight-line client interpolation stays within
+    // tolerance when the phase advances by speed per tick; faster and more curved spirals get shorter intervals.
+    // Computed once per speed and tolerance, since every spiral of this shape and preset asks the same question.
+    public int updateInterval(final double speed, final double tolerance, final int maxInterval) {
+        return this.intervals.computeIfAbsent(new IntervalKey(speed, tolerance, maxInterval), key -> {
+            final float[][] buffers = new float[9][this.size];
+            int interval = 1;
+            for (int candidate = 2; candidate <= maxInterval; candidate++) {
+                if (this.maxChordError(speed * candidate, buffers) > tolerance) break;
+                interval = candidate;
+            }
+            return interval;
+        });
+    }
+
+    // Largest distance between the true mid-point of a segment's path and the straight chord the client
+    // interpolates along, when the global phase advances by phaseStep between two updates
+    public double maxChordError(final double phaseStep) {
+        return this.maxChordError(phaseStep, new float[9][this.size]);
+    }
+
+    // Same as above with nine scratch arrays of size entries: start, end and mid-point x/y/z
+    private double maxChordError(final double phaseStep, @NotNull final float[][] buffers) {
+        final float[] startX = buffers[0], startY = buffers[1], startZ = buffers[2];
+        final float[] endX = buffers[3], endY = buffers[4], endZ = buffers[5];
+        final float[] midX = buffers[6], midY = buffers[7], midZ = buffers[8];
+
+        double worst = 0.0;
+        for (int sample = 0; sample < CHORD_SAMPLES; sample++) {
+            final double phase = (Math.PI * 4.0 * sample) / CHORD_SAMPLES;
+            this.compute(phase, startX, startY, startZ, 0, this.size);
+            this.compute(phase + phaseStep, endX, endY, endZ, 0, this.size);
+            this.compute(phase + phaseStep * 0.5, midX, midY, midZ, 0, this.size);
+
+            for (int i = 0; i < this.size; i++) {
+                final double dx = midX[i] - (startX[i] + endX[i]) * 0.5;
+                final double dy = midY[i] - (startY[i] + endY[i]) * 0.5;
+                final double dz = midZ[i] - (startZ[i] + endZ[i]) * 0.5;
+                worst = Math.max(worst, dx * dx + dy * dy + dz * dz);
+            }
+        }
+        return Math.sqrt(worst);
+    }
+
+    private static long gcd(final long a, final long b) {
+        return b == 0L ? a : gcd(b, a % b);
+    }
+
+    record Key(SpiralType type, int segmentsPerStream, double radius, double height) {}
+
+    private record IntervalKey(double speed, double tolerance, int maxInterval) {}
+}
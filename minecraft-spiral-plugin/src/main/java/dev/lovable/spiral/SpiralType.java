@@ -7,15 +7,16 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 @Getter
 public enum SpiralType {
-    HELIX("Classic spiral helix", 1),
-    DOUBLE_HELIX("Intertwined double spiral", 2),
-    WAVE("Undulating wave pattern", 1),
-    TORNADO("Swirling tornado effect", 1),
-    GALAXY("Galactic spiral arms", 3),
-    DNA("DNA double helix structure", 2);
+    HELIX("Classic spiral helix", 1, true),
+    DOUBLE_HELIX("Intertwined double spiral", 2, true),
+    WAVE("Undulating wave pattern", 1, false),
+    TORNADO("Swirling tornado effect", 1, false),
+    GALAXY("Galactic spiral arms", 3, false),
+    DNA("DNA double helix structure", 2, true);
 
     private final String description;
     private final int streamCount;
+    private final boolean rigid; // motion is (close to) a rotation of a fixed shape about the Y axis
 
     public static SpiralType fromString(final String name) {
         try {
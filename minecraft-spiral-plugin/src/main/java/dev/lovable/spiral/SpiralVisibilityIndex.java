@@ -0,0 +1,195 @@
+package dev.lovable.spiral;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Tracks which spirals have a player within view range. Recomputed at low frequency and only after a player
+// crossed a chunk boundary, teleported, respawned, changed world, joined or left, or the set of spirals
+// changed. A refresh asks the spatial index which spirals are near each player, so its cost follows players
+// and nearby spirals rather than players times spirals.
+public final class SpiralVisibilityIndex implements Listener, SpiralTickable {
+
+    private static final class Visibility {
+        private int viewers;
+        private double nearest;
+    }
+
+    private final Map<AdvancedSpiralAnimation, Visibility> tracked = new LinkedHashMap<>();
+    private final List<AdvancedSpiralAnimation> nearby = new ArrayList<>();
+    private final Location scratchLocation = new Location(null, 0.0, 0.0, 0.0);
+    private final double queryRadius;
+    private final boolean cullingEnabled;
+    private final double viewDistanceSquared;
+    private final int refreshTicks;
+    private final double halfSegmentsDistanceSquared;
+    private final double reducedRateDistanceSquared;
+    private final double noParticlesDistanceSquared;
+    private boolean dirty = true;
+
+    public SpiralVisibilityIndex() {
+        final double viewDistance = SpiralPlugin.getInstance().getConfig().getDouble("view-distance", 64.0);
+        this.cullingEnabled = SpiralPlugin.getInstance().getConfig().getBoolean("culling-enabled", true);
+        this.viewDistanceSquared = viewDistance * viewDistance;
+        this.refreshTicks = Math.max(1, SpiralPlugin.getInstance().getConfig().getInt("visibility-refresh-ticks", 10));
+
+        final double halfSegments = SpiralPlugin.getInstance().getConfig().getDouble("lod.half-segments-distance", 24.0);
+        final double reducedRate = SpiralPlugin.getInstance().getConfig().getDouble("lod.reduced-rate-distance", 40.0);
+        final double noParticles = SpiralPlugin.getInstance().getConfig().getDouble("lod.no-particles-distance", 56.0);
+        this.halfSegmentsDistanceSquared = halfSegments * halfSegments;
+        this.reducedRateDistanceSquared = reducedRate * reducedRate;
+        this.noParticlesDistanceSquared = noParticles * noParticles;
+
+        // Beyond both distances a spiral has no viewers and the lowest LOD, which is also what no match gives
+        this.queryRadius = Math.max(viewDistance, noParticles);
+    }
+
+    public void track(@NotNull final AdvancedSpiralAnimation animation) {
+        if (this.tracked.putIfAbsent(animation, new Visibility()) == null) {
+            // Evaluate right away so a new spiral is not suspended until the next refresh
+            this.refresh(animation);
+        }
+    }
+
+    public void untrack(@NotNull final AdvancedSpiralAnimation animation) {
+        this.tracked.remove(animation);
+    }
+
+    public void markDirty() {
+        this.dirty = true;
+    }
+
+    @Override
+    public int getTickDivisor() {
+        return this.refreshTicks;
+    }
+
+    @Override
+    public boolean isEssential() {
+        return true;
+    }
+
+    @Override
+    public void tick(final int elapsedTicks, final boolean cosmetic) {
+        if (!this.dirty) return;
+        this.dirty = false;
+
+        for (final Visibility visibility : this.tracked.values()) {
+            visibility.viewers = 0;
+            visibility.nearest = Double.MAX_VALUE;
+        }
+
+        final SpiralSpatialIndex spatialIndex = SpiralPlugin.getInstance().getAdvancedSpiralManager().getSpatialIndex();
+        for (final Player player : Bukkit.getOnlinePlayers()) {
+            final Location location = player.getLocation(this.scratchLocation);
+            this.nearby.clear();
+            spatialIndex.collectNear(location, this.queryRadius, this.nearby);
+
+            for (final AdvancedSpiralAnimation animation : this.nearby) {
+                final Visibility visibility = this.tracked.get(animation);
+                if (visibility == null) continue; // hibernating
+
+                final double distanceSquared = animation.distanceSquaredTo(location);
+                if (distanceSquared <= this.viewDistanceSquared) {
+                    visibility.viewers++;
+                }
+                visibility.nearest = Math.min(visibility.nearest, distanceSquared);
+            }
+        }
+        this.nearby.clear();
+        this.scratchLocation.setWorld(null);
+
+        final long currentTick = SpiralPlugin.getInstance().getTickEngine().getCurrentTick();
+        for (final Map.Entry<AdvancedSpiralAnimation, Visibility> entry : this.tracked.entrySet()) {
+            this.apply(entry.getKey(), entry.getValue().viewers, entry.getValue().nearest, currentTick);
+        }
+    }
+
+    // Single spiral, e.g. right after it started: a scan of its world's players is cheaper than a full refresh
+    private void refresh(@NotNull final AdvancedSpiralAnimation animation) {
+        final World world = animation.getCenter().getWorld();
+        int viewers = 0;
+        double nearest = Double.MAX_VALUE;
+
+        if (world != null) {
+            for (final Player player : world.getPlayers()) {
+                final double distanceSquared = animation.distanceSquaredTo(player.getLocation());
+                if (distanceSquared <= this.viewDistanceSquared) {
+                    viewers++;
+                }
+                nearest = Math.min(nearest, distanceSquared);
+            }
+        }
+
+        this.apply(animation, viewers, nearest, SpiralPlugin.getInstance().getTickEngine().getCurrentTick());
+    }
+
+    private void apply(@NotNull final AdvancedSpiralAnimation animation, final int viewers, final double nearest,
+                       final long currentTick) {
+        animation.updateVisibility(viewers, nearest, this.cullingEnabled && viewers == 0, this.selectLod(nearest),
+            currentTick);
+    }
+
+    @NotNull
+    private SpiralLod selectLod(final double nearestDistanceSquared) {
+        if (nearestDistanceSquared >= this.noParticlesDistanceSquared) return SpiralLod.MINIMAL;
+        if (nearestDistanceSquared >= this.reducedRateDistanceSquared) return SpiralLod.REDUCED_RATE;
+        if (nearestDistanceSquared >= this.halfSegmentsDistanceSquared) return SpiralLod.HALF_SEGMENTS;
+        return SpiralLod.FULL;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerMove(@NotNull final PlayerMoveEvent event) {
+        this.markDirtyOnChunkChange(event.getFrom(), event.getTo());
+    }
+
+    // Teleports have their own handler list and never reach onPlayerMove
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerTeleport(@NotNull final PlayerTeleportEvent event) {
+        this.markDirtyOnChunkChange(event.getFrom(), event.getTo());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerRespawn(@NotNull final PlayerRespawnEvent event) {
+        this.dirty = true;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerChangedWorld(@NotNull final PlayerChangedWorldEvent event) {
+        this.dirty = true;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerJoin(@NotNull final PlayerJoinEvent event) {
+        this.dirty = true;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(@NotNull final PlayerQuitEvent event) {
+        this.dirty = true;
+    }
+
+    private void markDirtyOnChunkChange(@NotNull final Location from, @NotNull final Location to) {
+        if (from.getWorld() != to.getWorld()
+            || (from.getBlockX() >> 4) != (to.getBlockX() >> 4)
+            || (from.getBlockZ() >> 4) != (to.getBlockZ() >> 4)) {
+            this.dirty = true;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package dev.lovable.spiral;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Throughput of the off-thread frame computation for a large installation at 1/2/4/8 fork-join workers
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FramePipelineBenchmark {
+
+    @Param({"1", "2", "4", "8"})
+    public int parallelism;
+
+    @Param({"100"})
+    public int spirals;
+
+    @Param({"200"})
+    public int segments;
+
+    private SpiralBenchmarkServer server;
+    private SpiralFramePipeline pipeline;
+    private SpiralFrame[] frames;
+    private double phase;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final Map<String, Object> config = new HashMap<>(SpiralBenchmarkServer.defaults());
+        config.put("async-compute", true);
+        config.put("compute-parallelism", this.parallelism);
+        this.server = SpiralBenchmarkServer.start(config);
+        this.pipeline = new SpiralFramePipeline();
+
+        final SpiralType[] types = SpiralType.values();
+        this.frames = new SpiralFrame[this.spirals];
+        for (int i = 0; i < this.spirals; i++) {
+            this.frames[i] = new SpiralFrame(SpiralTrajectory.of(types[i % types.length], this.segments, 3.0, 10.0));
+        }
+    }
+
+    // One tick worth of frames: schedule, dispatch, then wait until the workers published all of them
+    @Benchmark
+    public void computeFrames() {
+        this.phase += 0.15;
+        for (final SpiralFrame frame : this.frames) {
+            this.pipeline.schedule(frame, this.phase);
+        }
+        this.pipeline.dispatch();
+
+        for (final SpiralFrame frame : this.frames) {
+            while (frame.isBusy()) {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.pipeline.shutdown();
+        this.server.close();
+    }
+}
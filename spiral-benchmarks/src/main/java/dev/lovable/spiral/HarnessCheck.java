@@ -0,0 +1,308 @@
+package dev.lovable.spiral;
+
+import com.sun.management.ThreadMXBean;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.entity.BlockDisplay;
+import org.jetbrains.annotations.NotNull;
+import org.joml.Matrix4f;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Map;
+
+// Cost budgets and expected work checked against the headless harness; exits non-zero when a check fails.
+// Bound to the verify phase, so mvn verify fails on a regression; on its own:
+//   java -cp target/benchmarks.jar dev.lovable.spiral.HarnessCheck
+public final class HarnessCheck {
+
+    // Bytes the update pass allocated on this thread over ticks calls, and the display updates made in the
+    // windows (calls that updated at least one display)
+    private record UpdatePass(long bytes, long ticks, long windows, long updates) {}
+
+    private static final int SEGMENTS = 200;
+    private static final int SETTLE_TICKS = 40;
+    private static final int SPAWN_QUOTA = 50;
+    private static final int RUN_TICKS = 100;
+
+    private static final int[] TRAJECTORY_SEGMENTS = { 12, 50, 200 };
+    private static final int PHASE_SAMPLES = 200;
+    private static final double PHASE_STEP = 0.37;
+    private static final int FRAMES_PER_CYCLE = 256;
+    // Blocks: tables only lose float precision, the frame cache also quantization and interpolation between frames
+    private static final double TABLE_TOLERANCE = 1.0e-3;
+    private static final double CACHE_TOLERANCE = 0.01;
+
+    // Enough ticks for the update pass to be JIT-compiled before allocations are counted
+    private static final int ALLOCATION_WARMUP_TICKS = 5000;
+    private static final int ALLOCATION_TICKS = 1000;
+    private static final int SERVER_CALL_WARMUP = 100_000;
+    private static final int SERVER_CALLS = 20_000;
+    // The packet renderer's viewer refresh allocates the world's player list every tenth frame; nothing else may
+    private static final long UPDATE_PASS_BYTES = 64L;
+
+    private static int failures = 0;
+
+    public static void main(final String[] args) {
+        // First, before any spiral starts, so no frame cache cycle is installed on the shared trajectories yet
+        checkTrajectories();
+
+        // Every type: all segments spawned for the viewer, then moving types teleported (at most once per segment
+        // and tick) and rigid types only spun by transformations
+        for (final SpiralType type : SpiralType.values()) {
+            try (final SpiralTickHarness harness = SpiralTickHarness.start(Map.of())) {
+                harness.getServer().addViewer();
+                harness.getServer().getPlugin().getAdvancedSpiralManager().startGlobalSpiral(
+                    harness.getServer().spiralCenter(55), SpiralBenchmarkServer.preset(type, SEGMENTS));
+                final int size = SEGMENTS * type.getStreamCount();
+                final List<SpiralTickHarness.TickRecord> settle = harness.run(SETTLE_TICKS);
+                checkEqual(type + " spawns", SpiralTickHarness.sum(settle, SpiralTickHarness.TickRecord::packetSpawns), size);
+
+                final List<SpiralTickHarness.TickRecord> run = harness.run(RUN_TICKS);
+                if (type.isRigid()) {
+                    checkEqual(type + " teleports", SpiralTickHarness.sum(run, SpiralTickHarness.TickRecord::packetTeleports), 0);
+                    checkAtLeast(type + " transformations",
+                        SpiralTickHarness.sum(run, SpiralTickHarness.TickRecord::packetTransformations), 1);
+                    check(type + " transformations per tick",
+                        SpiralTickHarness.max(run, SpiralTickHarness.TickRecord::packetTransformations), size);
+                } else {
+                    checkAtLeast(type + " teleports", SpiralTickHarness.sum(run, SpiralTickHarness.TickRecord::packetTeleports), 1);
+                    check(type + " teleports per tick", SpiralTickHarness.max(run, SpiralTickHarness.TickRecord::packetTeleports), size);
+                }
+                checkAtLeast(type + " particles", SpiralTickHarness.sum(run, SpiralTickHarness.TickRecord::particlesRequested), 1);
+            }
+        }
+
+        // Keyframe mode: GALAXY at the benchmark speed keyframes every 4 ticks, so it must at least halve the teleports
+        final long perTickTeleports = galaxyTeleports(false);
+        final long keyframeTeleports = galaxyTeleports(true);
+        checkAtLeast("GALAXY keyframe teleports", keyframeTeleports, 1);
+        check("GALAXY keyframe teleports", keyframeTeleports, perTickTeleports / 2);
+
+        // Culled spiral: nobody in range, so no work at all
+        try (final SpiralTickHarness harness = SpiralTickHarness.start(Map.of("culling-enabled", true))) {
+            harness.getServer().getPlugin().getAdvancedSpiralManager().startGlobalSpiral(
+                harness.getServer().spiralCenter(55), SpiralBenchmarkServer.preset(SpiralType.TORNADO, SEGMENTS));
+            harness.run(SETTLE_TICKS);
+            final List<SpiralTickHarness.TickRecord> run = harness.run(RUN_TICKS);
+            check("culled particles", SpiralTickHarness.sum(run, SpiralTickHarness.TickRecord::particlesRequested), 0);
+        }
+
+        // Sliced spawning: a large spiral grows in under the per-tick spawn quota instead of spawning at once
+        try (final SpiralTickHarness harness = SpiralTickHarness.start(Map.of("spawn-quota-per-tick", SPAWN_QUOTA))) {
+            harness.getServer().addViewer();
+            harness.getServer().getPlugin().getAdvancedSpiralManager().startGlobalSpiral(
+                harness.getServer().spiralCenter(55), SpiralBenchmarkServer.preset(SpiralType.GALAXY, SEGMENTS));
+            final List<SpiralTickHarness.TickRecord> run = harness.run(SETTLE_TICKS);
+            check("GALAXY spawns per tick", SpiralTickHarness.max(run, SpiralTickHarness.TickRecord::packetSpawns), SPAWN_QUOTA);
+            checkEqual("GALAXY sliced spawns", SpiralTickHarness.sum(run, SpiralTickHarness.TickRecord::packetSpawns),
+                SEGMENTS * SpiralType.GALAXY.getStreamCount());
+        }
+
+        // Legacy spiral on real (mock) entities: one spawn per segment, then at most one move per segment per tick
+        try (final SpiralTickHarness harness = SpiralTickHarness.start(Map.of())) {
+            harness.getServer().addViewer();
+            harness.getServer().getPlugin().getSpiralManager().start(harness.getServer().spiralCenter(55),
+                3.0, 8.0, 0.15, Material.GLOWSTONE, SEGMENTS);
+            final SpiralTickHarness.TickRecord first = harness.step();
+            checkEqual("legacy spawns", first.entitySpawns(), SEGMENTS);
+            final List<SpiralTickHarness.TickRecord> run = harness.run(RUN_TICKS);
+            checkAtLeast("legacy moves", SpiralTickHarness.sum(run, SpiralTickHarness.TickRecord::entityMoves), 1);
+            check("legacy moves per tick", SpiralTickHarness.max(run, SpiralTickHarness.TickRecord::entityMoves), SEGMENTS);
+        }
+
+        // Steady-state update pass alone (no server tick, particles flushed outside the measurement), moving and
+        // rigid: the packet renderer allocates nothing per segment, so at most UPDATE_PASS_BYTES per tick
+        for (final SpiralType type : new SpiralType[] { SpiralType.WAVE, SpiralType.HELIX }) {
+            try (final SpiralTickHarness harness = SpiralTickHarness.start(Map.of())) {
+                harness.getServer().addViewer();
+                harness.getServer().getPlugin().setPacketSender(new NoOpPacketSender());
+                final UpdatePass pass = updatePass(harness, type);
+                check(type + " packet update pass bytes per tick", pass.bytes() / pass.ticks(), UPDATE_PASS_BYTES);
+            }
+        }
+
+        // Same on the entity renderer, the default backend. Every display update goes through the server API,
+        // which allocates on its own (entity metadata, teleport events); the renderer must add at most
+        // UPDATE_PASS_BYTES per update window on top of what the same calls cost when made directly.
+        for (final SpiralType type : new SpiralType[] { SpiralType.WAVE, SpiralType.HELIX }) {
+            try (final SpiralTickHarness harness = SpiralTickHarness.start(Map.of("renderer", "entity"))) {
+                harness.getServer().addViewer();
+                final UpdatePass pass = updatePass(harness, type);
+                checkAtLeast(type + " entity update windows", pass.windows(), 1);
+                if (pass.windows() == 0L) continue;
+
+                final BlockDisplay display = harness.getServer().getWorld()
+                    .getEntitiesByClass(BlockDisplay.class).iterator().next();
+                final long serverBytes = serverBytesPerUpdate(display, !type.isRigid());
+                final long windowBytes = pass.bytes() / pass.windows();
+                final long windowUpdates = pass.updates() / pass.windows();
+                System.out.println("INFO " + type + " entity update window: " + windowBytes + " bytes for "
+                    + windowUpdates + " display updates, " + serverBytes + " bytes per update in the server API");
+                check(type + " entity renderer bytes per window beyond the server API",
+                    (pass.bytes() - pass.updates() * serverBytes) / pass.windows(), UPDATE_PASS_BYTES);
+            }
+        }
+
+        if (failures > 0) {
+            System.err.println(failures + " harness check(s) failed");
+            System.exit(1);
+        }
+        System.out.println("All harness checks passed");
+    }
+
+    // Teleports a GALAXY spiral sends over RUN_TICKS once settled, with or without keyframe mode
+    private static long galaxyTeleports(final boolean keyframeMode) {
+        try (final SpiralTickHarness harness = SpiralTickHarness.start(Map.of("keyframe-mode", keyframeMode))) {
+            harness.getServer().addViewer();
+            harness.getServer().getPlugin().getAdvancedSpiralManager().startGlobalSpiral(
+                harness.getServer().spiralCenter(55), SpiralBenchmarkServer.preset(SpiralType.GALAXY, SEGMENTS));
+            harness.run(SETTLE_TICKS);
+            return SpiralTickHarness.sum(harness.run(RUN_TICKS), SpiralTickHarness.TickRecord::packetTeleports);
+        }
+    }
+
+    // Starts one spiral of the given type, lets it settle, then counts what AdvancedSpiralAnimation#tick allocates
+    // on this thread over ALLOCATION_TICKS after warm-up. Metrics are read between ticks, outside the measurement.
+    @NotNull
+    private static UpdatePass updatePass(@NotNull final SpiralTickHarness harness, @NotNull final SpiralType type) {
+        final AdvancedSpiralManager manager = harness.getServer().getPlugin().getAdvancedSpiralManager();
+        final SpiralAdmissionController.Result result = manager.requestGlobalSpiral(
+            harness.getServer().spiralCenter(55), SpiralBenchmarkServer.preset(type, SEGMENTS), null, 0);
+        harness.run(SETTLE_TICKS);
+
+        final AdvancedSpiralAnimation animation = manager.getSpiral(result.spiralId());
+        final SpiralParticleBatcher batcher = harness.getServer().getPlugin().getTickEngine().getParticleBatcher();
+        final ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long bytes = 0L;
+        long windows = 0L;
+        long updates = 0L;
+        for (int tick = 0; tick < ALLOCATION_WARMUP_TICKS + ALLOCATION_TICKS; tick++) {
+            final long updatesBefore = animation.getMetrics().snapshot().entityUpdates();
+            final long before = threads.getCurrentThreadAllocatedBytes();
+            animation.tick(1, true);
+            final long after = threads.getCurrentThreadAllocatedBytes();
+            final long tickUpdates = animation.getMetrics().snapshot().entityUpdates() - updatesBefore;
+            if (tick >= ALLOCATION_WARMUP_TICKS) {
+                bytes += after - before;
+                updates += tickUpdates;
+                if (tickUpdates > 0L) windows++;
+            }
+            batcher.flush();
+        }
+        return new UpdatePass(bytes, ALLOCATION_TICKS, windows, updates);
+    }
+
+    // Bytes the server API allocates for one display update made the way EntitySpiralRenderer makes it: a teleport
+    // or a rotation for moving spirals (averaged over one of each), a transformation with a restarted
+    // interpolation for rigid ones
+    private static long serverBytesPerUpdate(@NotNull final BlockDisplay display, final boolean moving) {
+        final ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final Matrix4f matrix = new Matrix4f();
+        final Location location = display.getLocation();
+        final double baseY = location.getY();
+        long bytes = 0L;
+        for (int call = 0; call < SERVER_CALL_WARMUP + SERVER_CALLS; call++) {
+            final float angle = call * 0.01f;
+            location.setY(baseY + (call & 1) * 0.1);
+            final long before = threads.getCurrentThreadAllocatedBytes();
+            if (moving) {
+                display.teleport(location);
+                display.setTransformationMatrix(matrix.rotationY(angle));
+            } else {
+                display.setInterpolationDelay(0);
+                display.setTransformationMatrix(matrix.translation(0.0f, angle, 0.0f).rotateY(angle));
+            }
+            final long after = threads.getCurrentThreadAllocatedBytes();
+            if (call >= SERVER_CALL_WARMUP) {
+                bytes += after - before;
+            }
+        }
+        return bytes / (moving ? 2L * SERVER_CALLS : SERVER_CALLS);
+    }
+
+    // Trajectory tables, split range sampling and the frame cache replay against the analytic formulas
+    private static void checkTrajectories() {
+        for (final SpiralType type : SpiralType.values()) {
+            double tableError = 0.0;
+            double rangeError = 0.0;
+            double cacheError = 0.0;
+
+            for (final int segments : TRAJECTORY_SEGMENTS) {
+                final SpiralTrajectory trajectory = SpiralTrajectory.of(type, segments,
+                    TrajectoryBenchmark.RADIUS, TrajectoryBenchmark.HEIGHT);
+                final SpiralFrameCache.Cycle cycle = SpiralFrameCache.Cycle.build(trajectory, trajectory.getPeriod(),
+                    FRAMES_PER_CYCLE);
+                final int size = trajectory.getSize();
+                final float[] x = new float[size];
+                final float[] y = new float[size];
+                final float[] z = new float[size];
+                final float[] rangeX = new float[size];
+                final float[] rangeY = new float[size];
+                final float[] rangeZ = new float[size];
+
+                for (int sample = 0; sample < PHASE_SAMPLES; sample++) {
+                    final double globalPhase = sample * PHASE_STEP;
+
+                    trajectory.sample(globalPhase, x, y, z);
+                    tableError = Math.max(tableError, deviation(trajectory, globalPhase, x, y, z));
+
+                    // Uneven ranges, the way the frame pipeline splits a large spiral between workers
+                    trajectory.sample(globalPhase, rangeX, rangeY, rangeZ, 0, size / 3);
+                    trajectory.sample(globalPhase, rangeX, rangeY, rangeZ, size / 3, size - 1);
+                    trajectory.sample(globalPhase, rangeX, rangeY, rangeZ, size - 1, size);
+                    rangeError = Math.max(rangeError, deviation(trajectory, globalPhase, rangeX, rangeY, rangeZ));
+
+                    cycle.sample(globalPhase, x, y, z, 0, size);
+                    cacheError = Math.max(cacheError, deviation(trajectory, globalPhase, x, y, z));
+                }
+            }
+
+            checkDeviation(type + " table deviation", tableError, TABLE_TOLERANCE);
+            checkDeviation(type + " range sampling deviation", rangeError, TABLE_TOLERANCE);
+            checkDeviation(type + " frame cache deviation", cacheError, CACHE_TOLERANCE);
+        }
+    }
+
+    // Largest distance between the sampled offsets and the legacy per-segment formulas
+    private static double deviation(@NotNull final SpiralTrajectory trajectory, final double globalPhase,
+                                    @NotNull final float[] x, @NotNull final float[] y, @NotNull final float[] z) {
+        double worst = 0.0;
+        for (int i = 0; i < trajectory.getSize(); i++) {
+            final double t = (double) trajectory.segmentOf(i) / (double) trajectory.getSegmentsPerStream();
+            final double streamOffset = (Math.PI * 2.0 * trajectory.streamOf(i)) / trajectory.getStreamCount();
+            final double[] expected = TrajectoryBenchmark.legacyPosition(trajectory.getType(), t,
+                t + streamOffset + globalPhase, streamOffset);
+
+            final double dx = x[i] - expected[0];
+            final double dy = y[i] - expected[1];
+            final double dz = z[i] - expected[2];
+            worst = Math.max(worst, Math.sqrt(dx * dx + dy * dy + dz * dz));
+        }
+        return worst;
+    }
+
+    private static void checkDeviation(@NotNull final String name, final double actual, final double tolerance) {
+        final boolean passed = actual <= tolerance;
+        System.out.printf("%s %s: %.6f (tolerance %.6f)%n", passed ? "PASS" : "FAIL", name, actual, tolerance);
+        if (!passed) failures++;
+    }
+
+    private static void check(@NotNull final String name, final long actual, final long limit) {
+        final boolean passed = actual <= limit;
+        System.out.println((passed ? "PASS " : "FAIL ") + name + ": " + actual + " (limit " + limit + ")");
+        if (!passed) failures++;
+    }
+
+    private static void checkAtLeast(@NotNull final String name, final long actual, final long minimum) {
+        final boolean passed = actual >= minimum;
+        System.out.println((passed ? "PASS " : "FAIL ") + name + ": " + actual + " (minimum " + minimum + ")");
+        if (!passed) failures++;
+    }
+
+    private static void checkEqual(@NotNull final String name, final long actual, final long expected) {
+        final boolean passed = actual == expected;
+        System.out.println((passed ? "PASS " : "FAIL ") + name + ": " + actual + " (expected " + expected + ")");
+        if (!passed) failures++;
+    }
+}
@@ -0,0 +1,62 @@
+package dev.lovable.spiral;
+
+import org.bukkit.Location;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// AdvancedSpiralManager bookkeeping with a steady population of running spirals
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ManagerBenchmark {
+
+    @Param({"10", "100"})
+    public int running;
+
+    private SpiralBenchmarkServer server;
+    private AdvancedSpiralManager manager;
+    private SpiralPreset preset;
+    private Location center;
+    private final List<AdvancedSpiralAnimation> nearby = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.server = SpiralBenchmarkServer.start(SpiralBenchmarkServer.defaults());
+        this.manager = this.server.getPlugin().getAdvancedSpiralManager();
+        this.preset = SpiralBenchmarkServer.preset(SpiralType.HELIX, 50);
+        for (int i = 0; i < this.running; i++) {
+            this.manager.startGlobalSpiral(this.server.spiralCenter(i), this.preset);
+        }
+        this.center = this.server.spiralCenter(this.running);
+    }
+
+    @Benchmark
+    public boolean startStop() {
+        final String id = this.manager.startGlobalSpiral(this.center, this.preset);
+        return this.manager.stopSpiral(id);
+    }
+
+    @Benchmark
+    public List<String> list() {
+        return this.manager.listActiveSpirals();
+    }
+
+    // What the visibility refresh does for every online player
+    @Benchmark
+    public int near() {
+        this.nearby.clear();
+        this.manager.getSpatialIndex().collectNear(this.center, 64.0, this.nearby);
+        return this.nearby.size();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.server.close();
+    }
+}
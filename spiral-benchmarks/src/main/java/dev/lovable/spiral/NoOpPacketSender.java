@@ -0,0 +1,34 @@
+package dev.lovable.spiral;
+
+import org.bukkit.block.data.BlockData;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.UUID;
+
+// Drops every packet, so the packet renderer measures the plugin side only
+public final class NoOpPacketSender implements SpiralPacketSender {
+
+    @Override
+    public void sendSpawn(@NotNull final Player viewer, final int entityId, @NotNull final UUID uuid,
+                          final double x, final double y, final double z,
+                          @NotNull final BlockData blockData, final boolean glow, final int interpolationTicks) {}
+
+    @Override
+    public void sendTeleport(@NotNull final Player viewer, final int entityId,
+                             final double x, final double y, final double z, final int interpolationTicks) {}
+
+    @Override
+    public void sendTeleportDuration(@NotNull final Player viewer, final int entityId, final int ticks) {}
+
+    @Override
+    public void sendRotation(@NotNull final Player viewer, final int entityId, final float angle, final int interpolationTicks) {}
+
+    @Override
+    public void sendTransformation(@NotNull final Player viewer, final int entityId,
+                                   final float offsetX, final float offsetY, final float offsetZ,
+                                   final float angle, final int interpolationTicks) {}
+
+    @Override
+    public void sendDestroy(@NotNull final Player viewer, @NotNull final int[] entityIds) {}
+}
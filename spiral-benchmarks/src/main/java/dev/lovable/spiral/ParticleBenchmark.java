@@ -0,0 +1,78 @@
+package dev.lovable.spiral;
+
+import org.bukkit.Particle;
+import org.bukkit.World;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// One tick of particle emission from 10 spirals: merging, budget sharing and the per-player fan-out
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParticleBenchmark {
+
+    private static final int SOURCES = 10;
+
+    @Param({"50", "500", "5000"})
+    public int particles;
+
+    @Param({"1", "10"})
+    public int viewers;
+
+    @Param({"0", "50"})
+    public int budget;
+
+    private SpiralBenchmarkServer server;
+    private SpiralParticleBatcher batcher;
+    private double[] x;
+    private double[] y;
+    private double[] z;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final Map<String, Object> config = new HashMap<>(SpiralBenchmarkServer.defaults());
+        config.put("max-particles-per-tick", this.budget);
+        this.server = SpiralBenchmarkServer.start(config);
+        for (int i = 0; i < this.viewers; i++) {
+            this.server.addViewer();
+        }
+        this.batcher = new SpiralParticleBatcher();
+
+        // Helix-shaped emission points with the jitter spawnAdvancedParticles applies
+        this.x = new double[this.particles];
+        this.y = new double[this.particles];
+        this.z = new double[this.particles];
+        for (int i = 0; i < this.particles; i++) {
+            final double t = (double) i / this.particles;
+            this.x[i] = 3.0 * Math.cos(t * Math.PI * 6.0) + Math.random() * 0.5;
+            this.y[i] = 64.0 + t * 10.0 + Math.random() * 0.5;
+            this.z[i] = 3.0 * Math.sin(t * Math.PI * 6.0) + Math.random() * 0.5;
+        }
+    }
+
+    @Benchmark
+    public void emitAndFlush() {
+        final World world = this.server.getWorld();
+        final int perSource = this.particles / SOURCES;
+        int next = 0;
+        for (int source = 0; source < SOURCES; source++) {
+            final int id = this.batcher.beginSource();
+            for (int i = 0; i < perSource; i++, next++) {
+                this.batcher.emit(id, world, Particle.END_ROD, this.x[next], this.y[next], this.z[next],
+                    1, 0.05, 0.05, 0.05, 0.02);
+            }
+        }
+        this.batcher.flush();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.server.close();
+    }
+}
@@ -0,0 +1,69 @@
+package dev.lovable.spiral;
+
+import lombok.Getter;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+// Stand-in for a client connection: records the packet stream instead of sending it,
+// so the harness can count what the packet renderer sends without a live client.
+public final class RecordingPacketSender implements SpiralPacketSender {
+
+    public enum Type { SPAWN, TELEPORT, TELEPORT_DURATION, ROTATION, TRANSFORMATION, DESTROY }
+
+    public record RecordedPacket(@NotNull Type type, @NotNull UUID viewer, int entityId,
+                                 double x, double y, double z, float angle, int interpolationTicks) {}
+
+    @Getter
+    private final List<RecordedPacket> packets = new ArrayList<>();
+
+    @Override
+    public void sendSpawn(@NotNull final Player viewer, final int entityId, @NotNull final UUID uuid,
+                          final double x, final double y, final double z,
+                          @NotNull final BlockData blockData, final boolean glow, final int interpolationTicks) {
+        this.packets.add(new RecordedPacket(Type.SPAWN, viewer.getUniqueId(), entityId, x, y, z, 0.0f, interpolationTicks));
+    }
+
+    @Override
+    public void sendTeleport(@NotNull final Player viewer, final int entityId,
+                             final double x, final double y, final double z, final int interpolationTicks) {
+        this.packets.add(new RecordedPacket(Type.TELEPORT, viewer.getUniqueId(), entityId, x, y, z, 0.0f, interpolationTicks));
+    }
+
+    @Override
+    public void sendTeleportDuration(@NotNull final Player viewer, final int entityId, final int ticks) {
+        this.packets.add(new RecordedPacket(Type.TELEPORT_DURATION, viewer.getUniqueId(), entityId, 0.0, 0.0, 0.0, 0.0f, ticks));
+    }
+
+    @Override
+    public void sendRotation(@NotNull final Player viewer, final int entityId, final float angle, final int interpolationTicks) {
+        this.packets.add(new RecordedPacket(Type.ROTATION, viewer.getUniqueId(), entityId, 0.0, 0.0, 0.0, angle, interpolationTicks));
+    }
+
+    @Override
+    public void sendTransformation(@NotNull final Player viewer, final int entityId,
+                                   final float offsetX, final float offsetY, final float offsetZ,
+                                   final float angle, final int interpolationTicks) {
+        this.packets.add(new RecordedPacket(Type.TRANSFORMATION, viewer.getUniqueId(), entityId,
+            offsetX, offsetY, offsetZ, angle, interpolationTicks));
+    }
+
+    @Override
+    public void sendDestroy(@NotNull final Player viewer, @NotNull final int[] entityIds) {
+        for (final int entityId : entityIds) {
+            this.packets.add(new RecordedPacket(Type.DESTROY, viewer.getUniqueId(), entityId, 0.0, 0.0, 0.0, 0.0f, 0));
+        }
+    }
+
+    public long count(@NotNull final Type type) {
+        return this.packets.stream().filter(packet -> packet.type() == type).count();
+    }
+
+    public void clear() {
+        this.packets.clear();
+    }
+}
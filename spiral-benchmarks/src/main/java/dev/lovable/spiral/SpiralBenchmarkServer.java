@@ -0,0 +1,110 @@
+package dev.lovable.spiral;
+
+import lombok.Getter;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.Particle;
+import org.jetbrains.annotations.NotNull;
+import org.mockbukkit.mockbukkit.MockBukkit;
+import org.mockbukkit.mockbukkit.ServerMock;
+import org.mockbukkit.mockbukkit.entity.PlayerMock;
+import org.mockbukkit.mockbukkit.world.WorldMock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// Boots the plugin on a MockBukkit server, so benchmarks run without Paper. Spirals are laid out on a grid
+// around the origin and every viewer stands at the origin.
+public final class SpiralBenchmarkServer implements AutoCloseable {
+
+    private static final double GRID_SPACING = 12.0;
+    private static final int GRID_COLUMNS = 10;
+
+    @Getter @NotNull private final ServerMock server;
+    @Getter @NotNull private final SpiralPlugin plugin;
+    @Getter @NotNull private final WorldMock world;
+    @Getter private final List<PlayerMock> viewers = new ArrayList<>();
+
+    private SpiralBenchmarkServer(@NotNull final ServerMock server, @NotNull final SpiralPlugin plugin,
+                                  @NotNull final WorldMock world) {
+        this.server = server;
+        this.plugin = plugin;
+        this.world = world;
+    }
+
+    @NotNull
+    public static SpiralBenchmarkServer start(@NotNull final Map<String, Object> config) {
+        final ServerMock server = MockBukkit.mock();
+        final SpiralPlugin plugin = MockBukkit.load(SpiralPlugin.class);
+
+        // onEnable already ran with the defaults; restart it so every component reads the overrides
+        server.getPluginManager().disablePlugin(plugin);
+        config.forEach(plugin.getConfig()::set);
+        server.getPluginManager().enablePlugin(plugin);
+        plugin.setPacketSender(new NoOpPacketSender());
+
+        return new SpiralBenchmarkServer(server, plugin, server.addSimpleWorld("benchmark"));
+    }
+
+    // Defaults for measuring the spiral code itself: no budget, culling, LOD, admission limits or spawn slicing
+    // kicking in, packet renderer
+    @NotNull
+    public static Map<String, Object> defaults() {
+        return Map.ofEntries(
+            Map.entry("tick-budget-ms", 0.0),
+            Map.entry("culling-enabled", false),
+            Map.entry("lod.half-segments-distance", 1.0e6),
+            Map.entry("lod.reduced-rate-distance", 1.0e6),
+            Map.entry("lod.no-particles-distance", 1.0e6),
+            Map.entry("renderer", "packet"),
+            Map.entry("max-particles-per-tick", 0),
+            Map.entry("max-global-spirals", 0),
+            Map.entry("max-display-entities", 0),
+            Map.entry("spawn-quota-per-tick", 0),
+            Map.entry("removal-quota-per-tick", 0));
+    }
+
+    @NotNull
+    public PlayerMock addViewer() {
+        final PlayerMock player = this.server.addPlayer();
+        player.teleport(new Location(this.world, 0.0, 64.0, 0.0));
+        this.viewers.add(player);
+        return player;
+    }
+
+    @NotNull
+    public Location spiralCenter(final int index) {
+        final double x = (index % GRID_COLUMNS - GRID_COLUMNS / 2) * GRID_SPACING;
+        final double z = (index / GRID_COLUMNS - GRID_COLUMNS / 2) * GRID_SPACING;
+        this.world.loadChunk((int) Math.floor(x) >> 4, (int) Math.floor(z) >> 4);
+        return new Location(this.world, x, 64.0, z);
+    }
+
+    @NotNull
+    public static SpiralPreset preset(@NotNull final SpiralType type, final int segmentsPerStream) {
+        return SpiralPreset.builder()
+            .name("Benchmark " + type.name())
+            .type(type)
+            .radius(3.0)
+            .height(10.0)
+            .speed(0.15)
+            .primaryMaterial(Material.GLOWSTONE)
+            .secondaryMaterial(Material.SEA_LANTERN)
+            .particleDensity(100)
+            .particleType(Particle.END_ROD)
+            .glowEffect(true)
+            .colorTransition(false)
+            .segmentsPerStream(segmentsPerStream)
+            .build();
+    }
+
+    public void tick(final int ticks) {
+        this.server.getScheduler().performTicks(ticks);
+    }
+
+    @Override
+    public void close() {
+        MockBukkit.unmock();
+    }
+}
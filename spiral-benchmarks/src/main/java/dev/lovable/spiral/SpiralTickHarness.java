@@ -0,0 +1,139 @@
+package dev.lovable.spiral;
+
+import lombok.Getter;
+import org.bukkit.entity.BlockDisplay;
+import org.bukkit.util.Transformation;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.ToLongFunction;
+
+// Deterministic tick driver on top of SpiralBenchmarkServer. Every step advances the mock scheduler by exactly
+// one tick and records what that tick produced: packets from the packet renderer (through a RecordingPacketSender),
+// BlockDisplay spawns/moves/metadata changes/removals from diffing the world, and particle counters.
+// Budget and async compute are off so a scenario always produces the same packet and entity counts; particle
+// merging depends on the random jitter of spawnAdvancedParticles, requested particle counts do not.
+public final class SpiralTickHarness implements AutoCloseable {
+
+    public record TickRecord(long tick,
+                             int packetSpawns, int packetTeleports, int packetRotations,
+                             int packetTransformations, int packetDestroys,
+                             int entitySpawns, int entityMoves, int entityMetadataChanges, int entityRemovals,
+                             int displayEntities,
+                             long particlesRequested, long particlesSent, long particlesMerged, long particlesDropped) {}
+
+    private record DisplayState(double x, double y, double z, Transformation transformation,
+                                int interpolationDuration, float viewRange) {}
+
+    @Getter @NotNull private final SpiralBenchmarkServer server;
+    @Getter @NotNull private final RecordingPacketSender packets = new RecordingPacketSender();
+    @Getter private final List<TickRecord> records = new ArrayList<>();
+
+    private Map<UUID, DisplayState> displays = new HashMap<>();
+    private long tick = 0L;
+
+    private SpiralTickHarness(@NotNull final SpiralBenchmarkServer server) {
+        this.server = server;
+        this.server.getPlugin().setPacketSender(this.packets);
+    }
+
+    @NotNull
+    public static SpiralTickHarness start(@NotNull final Map<String, Object> overrides) {
+        final Map<String, Object> config = new HashMap<>(SpiralBenchmarkServer.defaults());
+        config.put("async-compute", false);
+        config.putAll(overrides);
+        return new SpiralTickHarness(SpiralBenchmarkServer.start(config));
+    }
+
+    @NotNull
+    public TickRecord step() {
+        final SpiralParticleBatcher before = this.server.getPlugin().getTickEngine().getParticleBatcher();
+        final long requested = before.getRequestedParticles();
+        final long sent = before.getSentParticles();
+        final long merged = before.getMergedParticles();
+        final long dropped = before.getDroppedParticles();
+
+        this.packets.clear();
+        this.server.tick(1);
+        this.tick++;
+
+        final Map<UUID, DisplayState> current = new HashMap<>();
+        int spawns = 0;
+        int moves = 0;
+        int metadataChanges = 0;
+        for (final BlockDisplay display : this.server.getWorld().getEntitiesByClass(BlockDisplay.class)) {
+            final DisplayState state = new DisplayState(display.getLocation().getX(), display.getLocation().getY(),
+                display.getLocation().getZ(), display.getTransformation(), display.getInterpolationDuration(),
+                display.getViewRange());
+            current.put(display.getUniqueId(), state);
+
+            final DisplayState previous = this.displays.get(display.getUniqueId());
+            if (previous == null) {
+                spawns++;
+                continue;
+            }
+            if (previous.x() != state.x() || previous.y() != state.y() || previous.z() != state.z()) {
+                moves++;
+            }
+            if (!previous.transformation().equals(state.transformation())
+                || previous.interpolationDuration() != state.interpolationDuration()
+                || previous.viewRange() != state.viewRange()) {
+                metadataChanges++;
+            }
+        }
+
+        int removals = 0;
+        for (final UUID id : this.displays.keySet()) {
+            if (!current.containsKey(id)) removals++;
+        }
+        this.displays = current;
+
+        final SpiralParticleBatcher after = this.server.getPlugin().getTickEngine().getParticleBatcher();
+        final TickRecord record = new TickRecord(this.tick,
+            (int) this.packets.count(RecordingPacketSender.Type.SPAWN),
+            (int) this.packets.count(RecordingPacketSender.Type.TELEPORT),
+            (int) this.packets.count(RecordingPacketSender.Type.ROTATION),
+            (int) this.packets.count(RecordingPacketSender.Type.TRANSFORMATION),
+            (int) this.packets.count(RecordingPacketSender.Type.DESTROY),
+            spawns, moves, metadataChanges, removals, current.size(),
+            after.getRequestedParticles() - requested, after.getSentParticles() - sent,
+            after.getMergedParticles() - merged, after.getDroppedParticles() - dropped);
+        this.records.add(record);
+        return record;
+    }
+
+    @NotNull
+    public List<TickRecord> run(final int ticks) {
+        final List<TickRecord> run = new ArrayList<>(ticks);
+        for (int i = 0; i < ticks; i++) {
+            run.add(this.step());
+        }
+        return run;
+    }
+
+    // Largest value of one counter over the given ticks, e.g. harness.max(run, TickRecord::packetTeleports)
+    public static long max(@NotNull final List<TickRecord> run, @NotNull final ToLongFunction<TickRecord> counter) {
+        long max = 0L;
+        for (final TickRecord record : run) {
+            max = Math.max(max, counter.applyAsLong(record));
+        }
+        return max;
+    }
+
+    public static long sum(@NotNull final List<TickRecord> run, @NotNull final ToLongFunction<TickRecord> counter) {
+        long sum = 0L;
+        for (final TickRecord record : run) {
+            sum += counter.applyAsLong(record);
+        }
+        return sum;
+    }
+
+    @Override
+    public void close() {
+        this.server.close();
+    }
+}
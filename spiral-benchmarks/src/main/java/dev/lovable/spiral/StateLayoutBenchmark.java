@@ -0,0 +1,131 @@
+package dev.lovable.spiral;
+
+import org.bukkit.Location;
+import org.bukkit.entity.BlockDisplay;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Per-tick walk over an animation's state: the flat SpiralSegmentState arrays against the layout the animation
+// used before (List<List<BlockDisplay>> per stream plus a HashMap<BlockDisplay, Double> of phases). mapLookup
+// reads the same sampled positions as structureOfArrays, so the difference between the two is the layout alone;
+// legacyLayout is the old pass as it was, with the per-segment formulas and a position array per segment.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StateLayoutBenchmark {
+
+    private static final SpiralType TYPE = SpiralType.DOUBLE_HELIX;
+
+    @Param({"50", "200", "1000"})
+    public int segments;
+
+    private SpiralBenchmarkServer server;
+    private SpiralTrajectory trajectory;
+    private double phase;
+
+    // Current layout
+    private SpiralSegmentState state;
+    private BlockDisplay[] displays;
+
+    // Previous layout, holding the same displays
+    private List<List<BlockDisplay>> streams;
+    private Map<BlockDisplay, Double> displayPhases;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.server = SpiralBenchmarkServer.start(SpiralBenchmarkServer.defaults());
+        this.trajectory = SpiralTrajectory.of(TYPE, this.segments, TrajectoryBenchmark.RADIUS, TrajectoryBenchmark.HEIGHT);
+        this.state = new SpiralSegmentState(this.trajectory);
+        this.displays = new BlockDisplay[this.state.getSize()];
+
+        final Location location = this.server.spiralCenter(0);
+        final int streamCount = this.trajectory.getStreamCount();
+        this.streams = new ArrayList<>();
+        this.displayPhases = new HashMap<>();
+        for (int stream = 0; stream < streamCount; stream++) {
+            this.streams.add(new ArrayList<>());
+        }
+
+        for (int i = 0; i < this.segments; i++) {
+            for (int stream = 0; stream < streamCount; stream++) {
+                final BlockDisplay display = this.server.getWorld().spawn(location, BlockDisplay.class);
+                final int index = i * streamCount + stream;
+                this.displays[index] = display;
+                this.streams.get(stream).add(display);
+                this.displayPhases.put(display, this.state.basePhase[index]);
+            }
+        }
+    }
+
+    @Benchmark
+    public void structureOfArrays(final Blackhole blackhole) {
+        this.phase += 0.15;
+        final SpiralSegmentState state = this.state;
+        this.trajectory.sample(this.phase, state.x, state.y, state.z);
+
+        double sum = 0.0;
+        for (int index = 0; index < state.getSize(); index++) {
+            if (this.displays[index] == null) continue;
+
+            final double phase = state.basePhase[index] + this.phase;
+            sum += state.x[index] + state.y[index] + state.z[index] + phase + state.streamIndex[index];
+        }
+        blackhole.consume(sum);
+    }
+
+    @Benchmark
+    public void mapLookup(final Blackhole blackhole) {
+        this.phase += 0.15;
+        final SpiralSegmentState state = this.state;
+        this.trajectory.sample(this.phase, state.x, state.y, state.z);
+
+        final int streamCount = this.streams.size();
+        double sum = 0.0;
+        for (int stream = 0; stream < streamCount; stream++) {
+            final List<BlockDisplay> displays = this.streams.get(stream);
+            for (int i = 0; i < displays.size(); i++) {
+                final BlockDisplay display = displays.get(i);
+                final int index = i * streamCount + stream;
+
+                final double phase = this.displayPhases.get(display) + this.phase;
+                sum += state.x[index] + state.y[index] + state.z[index] + phase + stream;
+            }
+        }
+        blackhole.consume(sum);
+    }
+
+    @Benchmark
+    public void legacyLayout(final Blackhole blackhole) {
+        this.phase += 0.15;
+
+        final int streamCount = this.streams.size();
+        double sum = 0.0;
+        for (int stream = 0; stream < streamCount; stream++) {
+            final double streamOffset = (Math.PI * 2.0 * stream) / streamCount;
+            final List<BlockDisplay> displays = this.streams.get(stream);
+            for (int i = 0; i < displays.size(); i++) {
+                final BlockDisplay display = displays.get(i);
+                final double t = (double) i / (double) displays.size();
+
+                final double phase = this.displayPhases.get(display) + this.phase;
+                final double[] position = TrajectoryBenchmark.legacyPosition(TYPE, t, phase, streamOffset);
+                sum += position[0] + position[1] + position[2] + phase + stream;
+            }
+        }
+        blackhole.consume(sum);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.server.close();
+    }
+}
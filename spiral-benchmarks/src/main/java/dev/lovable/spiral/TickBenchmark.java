@@ -0,0 +1,55 @@
+package dev.lovable.spiral;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Full server tick with N running spirals of every SpiralType, including particle flushing to one viewer.
+// Run with -prof gc to see the allocation rate per tick.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TickBenchmark {
+
+    @Param({"1", "10", "100"})
+    public int spirals;
+
+    @Param({"12", "50", "200"})
+    public int segments;
+
+    @Param({"false", "true"})
+    public boolean asyncCompute;
+
+    private SpiralBenchmarkServer server;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final Map<String, Object> config = new HashMap<>(SpiralBenchmarkServer.defaults());
+        config.put("async-compute", this.asyncCompute);
+        this.server = SpiralBenchmarkServer.start(config);
+        this.server.addViewer();
+
+        final SpiralType[] types = SpiralType.values();
+        for (int i = 0; i < this.spirals; i++) {
+            this.server.getPlugin().getAdvancedSpiralManager().startGlobalSpiral(
+                this.server.spiralCenter(i), SpiralBenchmarkServer.preset(types[i % types.length], this.segments));
+        }
+        // Let visibility, packet viewers and the frame pipeline settle
+        this.server.tick(40);
+    }
+
+    @Benchmark
+    public void tick() {
+        this.server.tick(1);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.server.close();
+    }
+}
@@ -0,0 +1,113 @@
+package dev.lovable.spiral;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+// Position computation per SpiralType: the table-driven SpiralTrajectory#sample against the per-segment
+// trigonometry the animation used before (one cos/sin pair and a Vector3 per segment), and the replay of a
+// cached period from SpiralFrameCache
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TrajectoryBenchmark {
+
+    static final double RADIUS = 3.0;
+    static final double HEIGHT = 10.0;
+    private static final double GOLDEN_RATIO = 1.618033988749;
+
+    @Param({"HELIX", "DOUBLE_HELIX", "WAVE", "TORNADO", "GALAXY", "DNA"})
+    public SpiralType type;
+
+    @Param({"12", "50", "200"})
+    public int segments;
+
+    private SpiralTrajectory trajectory;
+    private SpiralFrameCache.Cycle cycle;
+    private float[] x;
+    private float[] y;
+    private float[] z;
+    private double phase;
+
+    @Setup
+    public void setup() {
+        this.trajectory = SpiralTrajectory.of(this.type, this.segments, RADIUS, HEIGHT);
+        this.x = new float[this.trajectory.getSize()];
+        this.y = new float[this.trajectory.getSize()];
+        this.z = new float[this.trajectory.getSize()];
+        this.cycle = SpiralFrameCache.Cycle.build(this.trajectory, this.trajectory.getPeriod(), 256);
+    }
+
+    @Benchmark
+    public void sample(final Blackhole blackhole) {
+        this.phase += 0.15;
+        this.trajectory.sample(this.phase, this.x, this.y, this.z);
+        blackhole.consume(this.x);
+        blackhole.consume(this.y);
+        blackhole.consume(this.z);
+    }
+
+    @Benchmark
+    public void cached(final Blackhole blackhole) {
+        this.phase += 0.15;
+        this.cycle.sample(this.phase, this.x, this.y, this.z, 0, this.x.length);
+        blackhole.consume(this.x);
+        blackhole.consume(this.y);
+        blackhole.consume(this.z);
+    }
+
+    @Benchmark
+    public void perSegmentTrig(final Blackhole blackhole) {
+        this.phase += 0.15;
+        final int streams = this.type.getStreamCount();
+        for (int stream = 0; stream < streams; stream++) {
+            final double streamOffset = (Math.PI * 2.0 * stream) / streams;
+            for (int i = 0; i < this.segments; i++) {
+                final double t = (double) i / (double) this.segments;
+                blackhole.consume(legacyPosition(this.type, t, t + streamOffset + this.phase, streamOffset));
+            }
+        }
+    }
+
+    // The pre-SpiralTrajectory formulas, kept here as the baseline (also the reference for HarnessCheck)
+    static double[] legacyPosition(final SpiralType type, final double t, final double phase, final double streamOffset) {
+        final double angle;
+        final double radius;
+        double y = t * HEIGHT;
+        switch (type) {
+            case DOUBLE_HELIX:
+                angle = t * Math.PI * 6.0 + phase + streamOffset;
+                radius = RADIUS * (0.8 + 0.2 * Math.sin(phase * 3));
+                break;
+            case WAVE:
+                angle = t * Math.PI * 4.0 + phase;
+                radius = RADIUS * Math.sin(t * Math.PI * 2 + phase);
+                y += Math.sin(phase * 2) * 2;
+                break;
+            case TORNADO:
+                angle = t * Math.PI * 8.0 + phase;
+                radius = RADIUS * (1 - t * 0.7);
+                y += Math.sin(phase * 4) * 0.5;
+                break;
+            case GALAXY:
+                angle = t * Math.PI * 4.0 + phase * 0.5 + streamOffset * GOLDEN_RATIO;
+                radius = RADIUS * Math.pow(t, 0.7);
+                y += Math.sin(phase) * 1.5;
+                break;
+            case DNA:
+                angle = t * Math.PI * 4.0 + phase + streamOffset;
+                radius = RADIUS * 0.8;
+                y += Math.cos(angle * 2) * 0.3;
+                break;
+            default:
+                angle = t * Math.PI * 6.0 + phase;
+                radius = RADIUS;
+                break;
+        }
+        return new double[] { radius * Math.cos(angle), y, radius * Math.sin(angle) };
+    }
+}